@@ -0,0 +1,34 @@
+package com.ydc.chess.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * 基准入口：参数与 JMH 命令行一致（如 -p phase=endgame、正则过滤基准名），
+ * 未指定 -rf / -rff 时默认把结果以 JSON 写入 results/jmh-时间戳.json，便于前后对比。
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            File dir = new File("results");
+            if (!dir.exists() && !dir.mkdirs()) {
+                System.err.println("创建结果目录失败: " + dir.getAbsolutePath());
+            }
+            String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+            builder.result(new File(dir, "jmh-" + stamp + ".json").getPath());
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ydc.chess.bench;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.rule.MoveGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board 的走子、悔棋、克隆与完整合法性校验（Board.move 含自将、对脸判断）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    @Param({"middlegame", "endgame"})
+    public String phase;
+
+    private Board[] boards;
+    // 每个局面的伪合法走法（含会自将的），以及其中的合法走法
+    private int[][] candidates;
+    private int[][] legal;
+
+    @Setup
+    public void setup() {
+        boards = Positions.load(phase);
+        candidates = new int[boards.length][];
+        legal = new int[boards.length][];
+        int[] buf = new int[MoveGenerator.MAX_MOVES];
+        for (int b = 0; b < boards.length; b++) {
+            int n = MoveGenerator.generateAll(boards[b], buf);
+            candidates[b] = java.util.Arrays.copyOf(buf, n);
+            int k = 0;
+            int[] ok = new int[n];
+            for (int i = 0; i < n; i++) {
+                if (tryMove(boards[b], buf[i])) {
+                    boards[b].undo();
+                    ok[k++] = buf[i];
+                }
+            }
+            legal[b] = java.util.Arrays.copyOf(ok, k);
+        }
+    }
+
+    private static boolean tryMove(Board board, int move) {
+        int from = Moves.from(move), to = Moves.to(move);
+        return board.move(from / 9, from % 9, to / 9, to % 9);
+    }
+
+    /**
+     * 完整合法性校验：每个候选走法调用 Board.move，成功则 undo
+     */
+    @Benchmark
+    public int legalityCheck() {
+        int valid = 0;
+        for (int b = 0; b < boards.length; b++) {
+            for (int move : candidates[b]) {
+                if (tryMove(boards[b], move)) {
+                    boards[b].undo();
+                    valid++;
+                }
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public void moveUndo() {
+        for (int b = 0; b < boards.length; b++) {
+            for (int move : legal[b]) {
+                tryMove(boards[b], move);
+                boards[b].undo();
+            }
+        }
+    }
+
+    @Benchmark
+    public void makeUnmake() {
+        for (int b = 0; b < boards.length; b++) {
+            for (int move : legal[b]) {
+                boards[b].makeMove(move);
+                boards[b].unmakeMove();
+            }
+        }
+    }
+
+    @Benchmark
+    public void isInCheck(Blackhole bh) {
+        for (Board board : boards) {
+            bh.consume(board.isincheck(Piece.Color.RED));
+            bh.consume(board.isincheck(Piece.Color.BLACK));
+        }
+    }
+
+    @Benchmark
+    public void cloneBoard(Blackhole bh) {
+        for (Board board : boards) {
+            bh.consume(board.cloneBoard());
+        }
+    }
+}
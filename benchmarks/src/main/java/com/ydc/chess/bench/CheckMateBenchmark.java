@@ -0,0 +1,37 @@
+package com.ydc.chess.bench;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.rule.CheckMate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 将死 / 困毙判定 CheckMate.evaluate 的开销
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckMateBenchmark {
+    @Param({"middlegame", "endgame"})
+    public String phase;
+
+    private Board[] boards;
+
+    @Setup
+    public void setup() {
+        boards = Positions.load(phase);
+    }
+
+    @Benchmark
+    public int checkMate() {
+        int mates = 0;
+        for (Board board : boards) {
+            if (CheckMate.evaluate(board).isOver()) mates++;
+        }
+        return mates;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ydc.chess.bench;
+
+import com.ydc.chess.model.Board;
+
+/**
+ * 基准测试使用的局面库（FEN），按中局 / 残局分组
+ */
+final class Positions {
+    static final String[] MIDDLEGAME = {
+            "rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C5C1/9/RNBAKABNR w",
+            "r1ba1a3/4kn3/2n1b4/pNp1p1p1p/4c4/6P2/P1P2R2P/1CcC5/9/2BAKAB2 w",
+            "1cbak4/9/n2a5/2p1p3p/5cp2/2n2N3/6PCP/3AB4/2C6/3A1K1N1 w",
+            "1C2ka3/9/C1Nab1n2/p3p3p/6p2/9/P3P3P/3AB4/3p2c2/c1BAK4 w",
+            "r2akab2/9/1cn1b1n2/p1p1p3p/6p2/2P6/P3P1c1P/1CN1B1N2/9/R2AKAB1R w",
+    };
+
+    static final String[] ENDGAME = {
+            "5a3/3k5/3aR4/9/5r3/5n3/9/3A1A3/5K3/2BC2B2 w",
+            "R1N1k1b2/9/3aba3/9/2nr5/2B6/9/4B4/4A4/4KA3 w",
+            "C1nNk4/9/9/9/9/9/n1pp5/B3C4/9/3A1K3 w",
+            "4ka3/4a4/9/9/4N4/p8/9/4C3c/7n1/2BK5 w",
+            "2b1ka3/9/b3N4/4n4/9/9/9/4C4/2p6/2BK5 w",
+    };
+
+    private Positions() {
+    }
+
+    static String[] of(String phase) {
+        switch (phase) {
+            case "middlegame": return MIDDLEGAME;
+            case "endgame": return ENDGAME;
+            default: throw new IllegalArgumentException("未知局面分组: " + phase);
+        }
+    }
+
+    static Board[] load(String phase) {
+        String[] fens = of(phase);
+        Board[] boards = new Board[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            boards[i] = new Board();
+            boards[i].loadFen(fens[i]);
+        }
+        return boards;
+    }
+}
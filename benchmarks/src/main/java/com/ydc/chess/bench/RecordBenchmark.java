@@ -0,0 +1,57 @@
+package com.ydc.chess.bench;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.GameRecord;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.rule.MoveGenerator;
+import com.ydc.chess.service.GameRecordService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对局记录：从棋盘历史生成 GameRecord，以及序列化为 JSON
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordBenchmark {
+    @Param({"40", "120"})
+    public int plies;
+
+    private Board board;
+    private GameRecord record;
+
+    @Setup
+    public void setup() {
+        // 用固定种子从初始局面随机走出一盘棋
+        board = new Board();
+        Random random = new Random(20240101L);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < plies; ply++) {
+            int n = MoveGenerator.generateAll(board, moves);
+            boolean moved = false;
+            for (int tries = 0; tries < n && !moved; tries++) {
+                int move = moves[random.nextInt(n)];
+                int from = Moves.from(move), to = Moves.to(move);
+                moved = board.move(from / 9, from % 9, to / 9, to % 9);
+            }
+            if (!moved) break;
+        }
+        record = createRecord();
+    }
+
+    @Benchmark
+    public GameRecord createRecord() {
+        return GameRecordService.createRecordFromBoard(board, GameRecord.GameType.LOCAL, "红方", "红方", "黑方");
+    }
+
+    @Benchmark
+    public String toJson() {
+        return GameRecordService.toJson(record);
+    }
+}
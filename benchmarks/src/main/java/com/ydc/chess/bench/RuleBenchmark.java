@@ -0,0 +1,78 @@
+package com.ydc.chess.bench;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+import com.ydc.chess.rule.Rule;
+import com.ydc.chess.rule.RuleFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单个棋子规则 Rule.isValidMove 的开销：对局面库中该类棋子的每个目标格各调用一次。
+ * backing 切换 Board 的棋盘表示（见 Board.Backing），只对车、炮、马、象有影响
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleBenchmark {
+    private static final List<String> TYPES =
+            Arrays.asList("GENERAL", "GUARD", "BISHOP", "KNIGHT", "CHARIOT", "CANNON", "SOLDIER");
+
+    @Param({"GENERAL", "GUARD", "BISHOP", "KNIGHT", "CHARIOT", "CANNON", "SOLDIER"})
+    public String piece;
+
+    @Param({"middlegame", "endgame"})
+    public String phase;
+
+    @Param({"GRID", "MAILBOX"})
+    public String backing;
+
+    private Board[] boards;
+    private Rule[] rules;
+    // 每个探测：board 下标、起点行列、终点行列
+    private int[][] probes;
+
+    @Setup
+    public void setup() {
+        int type = TYPES.indexOf(piece);
+        boards = Positions.load(phase);
+        List<Rule> ruleList = new ArrayList<>();
+        List<int[]> probeList = new ArrayList<>();
+        for (int b = 0; b < boards.length; b++) {
+            boards[b].setBacking(Board.Backing.valueOf(backing));
+            Piece[][] grid = boards[b].getGrid();
+            for (int fr = 0; fr < 10; fr++) {
+                for (int fc = 0; fc < 9; fc++) {
+                    Piece p = grid[fr][fc];
+                    if (p == null || p.getType() != type) continue;
+                    for (int tr = 0; tr < 10; tr++) {
+                        for (int tc = 0; tc < 9; tc++) {
+                            ruleList.add(RuleFactory.of(p));
+                            probeList.add(new int[] {b, fr, fc, tr, tc});
+                        }
+                    }
+                }
+            }
+        }
+        rules = ruleList.toArray(new Rule[0]);
+        probes = probeList.toArray(new int[0][]);
+    }
+
+    @Benchmark
+    public int isValidMove() {
+        int valid = 0;
+        for (int i = 0; i < probes.length; i++) {
+            int[] p = probes[i];
+            if (rules[i].isValidMove(boards[p[0]], p[1], p[2], p[3], p[4])) valid++;
+        }
+        return valid;
+    }
+}
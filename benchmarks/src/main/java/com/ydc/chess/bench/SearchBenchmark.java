@@ -0,0 +1,62 @@
+package com.ydc.chess.bench;
+
+import com.ydc.chess.engine.ParallelSearcher;
+import com.ydc.chess.engine.SearchLimits;
+import com.ydc.chess.engine.SearchResult;
+import com.ydc.chess.engine.TranspositionTable;
+import com.ydc.chess.model.Board;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 固定深度搜索的速度：主指标（每秒完成的搜索数）即到达该深度所需时间的倒数，
+ * 辅助计数器 nodes 为全部线程合计的每秒节点数（nps）；用 -p threads=1,2,4,... 比较多线程的加速比。
+ * 每次搜索前清空置换表，避免上一次调用的结果让后面的搜索越来越快
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+    @Param({"middlegame", "endgame"})
+    public String phase;
+
+    @Param({"4"})
+    public int depth;
+
+    @Param({"1"})
+    public int threads;
+
+    private Board[] boards;
+    private TranspositionTable[] tables;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Nodes {
+        public long nodes;
+    }
+
+    @Setup
+    public void setup() {
+        boards = Positions.load(phase);
+        tables = new TranspositionTable[boards.length];
+        for (int i = 0; i < boards.length; i++) {
+            tables[i] = new TranspositionTable(1);
+        }
+    }
+
+    @Benchmark
+    public int search(Nodes counter) {
+        int moves = 0;
+        for (int i = 0; i < boards.length; i++) {
+            tables[i].clear();
+            SearchResult result = new ParallelSearcher(boards[i], tables[i], threads).search(SearchLimits.depth(depth));
+            moves ^= result.getBestMove();
+            counter.nodes += result.getNodes();
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ydc.chess.controller;
+
+import com.ydc.chess.engine.ParallelSearcher;
+import com.ydc.chess.engine.SearchLimits;
+import com.ydc.chess.engine.SearchResult;
+import com.ydc.chess.engine.TranspositionTable;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.GameSettings;
+import com.ydc.chess.model.Piece;
+import javafx.application.Platform;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 人机对战管理器
+ * 记录是否为人机模式，并在后台线程上为电脑一方搜索走法（线程数见设置），结果回到界面线程交给调用方
+ */
+public class AiManager {
+    // 玩家执红先行，电脑执黑
+    private static final Piece.Color AI_COLOR = Piece.Color.BLACK;
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ai-search");
+        t.setDaemon(true);
+        return t;
+    });
+    // 每次 think / cancel 递增，过期的搜索结果直接丢弃
+    private static final AtomicLong GENERATION = new AtomicLong();
+    private static volatile ParallelSearcher currentSearcher;
+    // 整局共用的置换表，按设置的大小创建，大小变化时重建
+    private static TranspositionTable table;
+    private static int tableSizeMb;
+    private static boolean isAiMode = false;
+
+    public static void setAiMode(boolean aiMode) {
+        isAiMode = aiMode;
+    }
+
+    public static boolean isAiMode() {
+        return isAiMode;
+    }
+
+    public static Piece.Color getAiColor() {
+        return AI_COLOR;
+    }
+
+    /**
+     * 为 board 的当前局面搜索电脑的走法；须在界面线程上调用，副本在此处复制，
+     * 搜索结果在界面线程上交给 onResult（期间调用过 cancel 则不回调）
+     */
+    public static void think(Board board, Consumer<SearchResult> onResult) {
+        long generation = GENERATION.incrementAndGet();
+        Board copy = board.cloneBoard();
+        GameSettings settings = GameSettings.getInstance();
+        SearchLimits limits = new SearchLimits(settings.getAiSearchDepth(),
+                settings.getAiMaxNodes(), settings.getAiThinkSeconds() * 1000L);
+        TranspositionTable tt = getTranspositionTable();
+        int threads = settings.getAiThreads();
+        EXECUTOR.execute(() -> {
+            if (GENERATION.get() != generation) return;
+            ParallelSearcher searcher = new ParallelSearcher(copy, tt, threads);
+            currentSearcher = searcher;
+            // cancel 可能恰好发生在登记之前
+            if (GENERATION.get() != generation) searcher.stop();
+            SearchResult result = searcher.search(limits);
+            currentSearcher = null;
+            Platform.runLater(() -> {
+                if (GENERATION.get() == generation) onResult.accept(result);
+            });
+        });
+    }
+
+    /**
+     * 电脑使用的置换表（可读取命中率等统计）；须在界面线程上调用
+     */
+    public static TranspositionTable getTranspositionTable() {
+        int sizeMb = GameSettings.getInstance().getHashSizeMb();
+        if (table == null || tableSizeMb != sizeMb) {
+            table = new TranspositionTable(sizeMb);
+            tableSizeMb = sizeMb;
+        }
+        return table;
+    }
+
+    /**
+     * 放弃正在进行的搜索（悔棋、重开、退出时）
+     */
+    public static void cancel() {
+        GENERATION.incrementAndGet();
+        ParallelSearcher searcher = currentSearcher;
+        if (searcher != null) searcher.stop();
+    }
+
+    public static void clear() {
+        cancel();
+        isAiMode = false;
+        // 退出人机模式时释放置换表
+        table = null;
+    }
+}
@@ -1,8 +1,10 @@
  package com.ydc.chess.controller;
+import com.ydc.chess.engine.MoveSpeculator;
 import com.ydc.chess.model.Board;
 import com.ydc.chess.model.GameRecord;
 import com.ydc.chess.model.GameSettings;
 import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.Pos;
 import com.ydc.chess.network.NetworkMessage;
 import com.ydc.chess.network.NetworkService;
 import com.ydc.chess.service.GameRecordService;
@@ -45,6 +47,11 @@ public class GameBoardController {
                 BoardRenderer.drawBoard(boardPane, board);
             }
 
+            @Override
+            public void showSelection(Pos pos) {
+                BoardRenderer.showSelection(gameBoard, pos);
+            }
+
             @Override
             public void appendLog(String msg) {
                 gameLogArea.appendText(msg + "\n");
@@ -287,12 +294,14 @@ public class GameBoardController {
      * 重启游戏（实际执行重启操作）
      */
     private void restartGame() {
+        AiManager.cancel();
         gameBoard.initialize();
         gameLogArea.clear();
         BoardRenderer.drawBoard(boardPane, gameBoard);
         turnLabel.setText("当前回合: 红方");
         gameLogArea.appendText("新的一局开始，红方先行。\n");
         timerService.startNewTimer();
+        MoveSpeculator.speculate(gameBoard);
         waitingForRestartResponse = false;
     }
     
@@ -424,7 +433,7 @@ public class GameBoardController {
             // 确定游戏类型
             GameRecord.GameType gameType = NetworkManager.isNetworkMode() 
                 ? GameRecord.GameType.NETWORK 
-                : GameRecord.GameType.LOCAL;
+                : AiManager.isAiMode() ? GameRecord.GameType.AI : GameRecord.GameType.LOCAL;
             
             // 获取玩家名称
             String redPlayerName = GameSettings.getInstance().getPlayerName();
@@ -436,6 +445,8 @@ public class GameBoardController {
                     redPlayerName = "网络玩家";
                     blackPlayerName = GameSettings.getInstance().getPlayerName();
                 }
+            } else if (AiManager.isAiMode()) {
+                blackPlayerName = "电脑";
             }
             
             // 创建记录
@@ -491,6 +502,12 @@ public class GameBoardController {
             return;
         }
         
+        // 人机模式：电脑不接受和局
+        if (AiManager.isAiMode()) {
+            gameLogArea.appendText("电脑拒绝了和局，对局继续。\n");
+            return;
+        }
+        
         // 本地模式
         boolean agreed = twoPhaseConfirm(
                 "请求求和",
@@ -539,6 +556,10 @@ public class GameBoardController {
                 // 网络模式：如果我是主机（红方），我认输，则获胜方是客机（黑方）
                 // 如果我是客机（黑方），我认输，则获胜方是主机（红方）
                 winner = networkService.isHost() ? "黑方" : "红方";
+            } else if (AiManager.isAiMode()) {
+                // 人机模式：不论轮到谁，都是玩家认输，电脑获胜
+                AiManager.cancel();
+                winner = (AiManager.getAiColor() == Piece.Color.RED) ? "红方" : "黑方";
             } else {
                 // 本地模式：认输方的对方获胜（当前回合是认输方，对方是获胜方）
                 winner = (gameBoard.getCurrentTurn() == Piece.Color.RED) ? "黑方" : "红方";
@@ -576,6 +597,7 @@ public class GameBoardController {
             networkService.disconnect();
             NetworkManager.clear();
         }
+        AiManager.clear();
         UIManager.goTo("MainMenu.fxml", "主菜单");
     }
     private boolean twoPhaseConfirm(String title1, String content1,
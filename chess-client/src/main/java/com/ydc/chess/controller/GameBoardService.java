@@ -3,13 +3,16 @@ package com.ydc.chess.controller;
 import com.ydc.chess.model.Board;
 import com.ydc.chess.model.GameSettings;
 import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.Moves;
 import com.ydc.chess.model.Pos;
+import com.ydc.chess.model.Square;
 import com.ydc.chess.network.NetworkMessage;
 import com.ydc.chess.network.NetworkService;
 import com.ydc.chess.ui.BoardRenderer;
-import com.ydc.chess.rule.CheckMate;
-import java.util.Stack;
-import com.ydc.chess.model.Move;
+import com.ydc.chess.engine.MoveSpeculator;
+import com.ydc.chess.engine.SearchResult;
+import com.ydc.chess.engine.TranspositionTable;
+import com.ydc.chess.rule.LegalMoveCache;
 
 public class GameBoardService {
 
@@ -22,11 +25,11 @@ public class GameBoardService {
     private final Board board;
     private final GameBoardView view;
     private final TimerService timerService;
-    private Piece selectedPiece = null;
+    // 选中棋子所在格（sq = 行 * 9 + 列），未选中为 Square.NONE；棋子是共享实例，只能按格子区分
+    private int selectedSquare = Square.NONE;
     private NetworkService networkService;
     private Piece.Color myColor; // 网络模式下，我的颜色（主机是红方，客机是黑方）
-
-    private final Stack<Move> moveStack = new Stack<>();
+    private Piece.Color aiColor; // 人机模式下，电脑的颜色；非人机模式为 null
 
     public GameBoardService(Board board, TimerService timerService, GameBoardView view) {
         this.board = board;
@@ -44,6 +47,9 @@ public class GameBoardService {
             // 主机是红方，客机是黑方
             myColor = networkService.isHost() ? Piece.Color.RED : Piece.Color.BLACK;
         }
+        if (AiManager.isAiMode()) {
+            aiColor = AiManager.getAiColor();
+        }
     }
 
     // 初始化
@@ -53,9 +59,20 @@ public class GameBoardService {
         view.appendLog("对局开始，红方先行。");
         view.updateRegretCount(redRegretLeft, blackRegretLeft);
         view.startTimer();
+        MoveSpeculator.speculate(board);
+        if (aiColor != null) {
+            view.appendLog("人机模式：您是" + (aiColor == Piece.Color.RED ? "黑方" : "红方") + "，电脑是"
+                    + (aiColor == Piece.Color.RED ? "红方" : "黑方"));
+            requestAiMove();
+        }
     }
 
     public int getCurrentSideRegretLeft() {
+        // 人机模式下悔棋总是撤回玩家自己的一步，用玩家的次数
+        if (aiColor != null) {
+            if (board.getMoveCount() == 0) return 0;
+            return aiColor == Piece.Color.RED ? blackRegretLeft : redRegretLeft;
+        }
         if (lastMoveSide == null) return 0;
         return lastMoveSide == Piece.Color.RED ? redRegretLeft : blackRegretLeft;
     }
@@ -78,77 +95,69 @@ public class GameBoardService {
                 return;
             }
         }
+        if (aiColor != null && board.getCurrentTurn() == aiColor) {
+            view.appendLog("电脑思考中，请稍候...");
+            return;
+        }
         
         Pos clickedPos = getLogicalPosition(mouseX, mouseY);
         if (clickedPos == null) return;
+        int clicked = Square.of(clickedPos);
 
-        Piece piece = board.getPiece(clickedPos);
+        Piece piece = board.getPiece(clicked);
 
         if (piece != null) {
-            if (piece == selectedPiece) {
-                piece.setpicked(false);
-                selectedPiece = null;
+            if (clicked == selectedSquare) {
+                selectedSquare = Square.NONE;
+                view.showSelection(null);
                 view.appendLog("取消选中: " + piece.getName() + " " + clickedPos);
 
             } else if (piece.getColor() == board.getCurrentTurn()) {
-                board.clearpicked();
-                piece.setpicked(true);
-                selectedPiece = piece;
+                selectedSquare = clicked;
+                view.showSelection(clickedPos);
                 view.appendLog("选中: " + piece.getName() + " " + clickedPos);
 
-            } else if (selectedPiece != null) {
-                movePiece(clickedPos, piece, true);
+            } else if (selectedSquare != Square.NONE) {
+                movePiece(clicked);
             }
 
-        } else if (selectedPiece != null) {
-            movePiece(clickedPos, null, false);
+        } else if (selectedSquare != Square.NONE) {
+            movePiece(clicked);
         }
     }
     // ================= 核心走子逻辑 =================
-    private void movePiece(Pos targetPos, Piece targetPiece, boolean isCapture) {
-        String fromStr = selectedPiece.getPosition() != null ? selectedPiece.getPosition().toString() : "unknown";
-        String toStr = targetPos.toString();
-        Pos from = selectedPiece.getPosition();
-        Piece captured = board.getPiece(targetPos);
-        boolean success = board.move(from, targetPos);
+    private void movePiece(int target) {
+        int from = selectedSquare;
+        Piece mover = board.getPiece(from);
+        Pos fromPos = Square.toPos(from);
+        Pos targetPos = Square.toPos(target);
+        // 合法走法查缓存后直接落子；不合法的仍交给 board.move，以得到被拒的原因
+        boolean success = LegalMoveCache.isLegal(board, from, target);
+        if (success) {
+            board.playLegalMove(from, target);
+        } else {
+            success = board.move(Square.row(from), Square.col(from), Square.row(target), Square.col(target));
+        }
         if (success) {
-            lastMoveSide = selectedPiece.getColor();
-            Move move = new Move(from, targetPos, captured);
-            moveStack.push(move);
+            lastMoveSide = mover.getColor();
+            int packed = board.getMove(board.getMoveCount() - 1);
             
             // 网络模式下，发送移动消息
             if (networkService != null && networkService.isConnected()) {
-                networkService.sendMove(from, targetPos);
+                networkService.sendMove(fromPos, targetPos);
             }
             
-            if (isCapture)
-            {
-                view.appendLog("移动棋子: " + selectedPiece.getName() + " 从 " + fromStr + " 到 " + toStr + " 并吃掉 " + targetPiece.getName()); } else { view.appendLog("移动棋子: " + selectedPiece.getName() + " 从 " + fromStr + " 到 " + toStr);
+            int captured = Moves.captured(packed);
+            if (captured >= 0) {
+                view.appendLog("移动棋子: " + mover.getName() + " 从 " + fromPos + " 到 " + targetPos + " 并吃掉 " + Piece.of(captured).getName());
+            } else {
+                view.appendLog("移动棋子: " + mover.getName() + " 从 " + fromPos + " 到 " + targetPos);
             }
-            selectedPiece = null;
+            selectedSquare = Square.NONE;
             view.refresh(board);
             ChangeLabel();
             timerService.startNewTimer();
-            // ======= 将军 / 将死 / 困毙 判断 =======
-            Piece.Color current = board.getCurrentTurn();
-            if (board.isincheck(current))
-            {
-                if (CheckMate.checkMate(board))
-                {
-                String winner = (current == Piece.Color.RED) ? "黑方" : "红方";
-                view.appendLog("将死！" + winner + "获胜！");
-                timerService.stop();
-                view.showGameOverDialog(winner);
-            } else {
-                String side = (current == Piece.Color.RED) ? "红方" : "黑方";
-                view.appendLog(side + "已经被将军！");
-            }
-            }
-            else if (CheckMate.checkMate(board))
-            { String winner = (current == Piece.Color.RED) ? "黑方" : "红方";
-                view.appendLog("困毙！" + winner + "获胜！"); timerService.stop();
-                view.showGameOverDialog(winner);
-            }
+            checkGameOver();
         } else { 
             if (board.getCheckStatus() == Board.checkStatus.BEFORE_CHECK) {
                 view.appendLog("你已被将军！");
@@ -166,10 +175,32 @@ public class GameBoardService {
      * 处理网络消息 - 移动棋子
      */
     public void handleNetworkMove(Pos from, Pos to) {
+        if (!applyOpponentMove(from, to, "对方")) {
+            view.appendLog("网络错误：对方移动失败");
+        }
+    }
+
+    /**
+     * 处理电脑的搜索结果 - 与网络走子相同，由 AiManager 在界面线程上回调
+     */
+    public void handleAiMove(SearchResult result) {
+        if (result.getBestMove() == Moves.NONE) return;
+        int move = result.getBestMove();
+        TranspositionTable table = AiManager.getTranspositionTable();
+        view.appendLog(String.format("电脑搜索: 深度 %d, %d 节点, %d ms, %d 节点/秒, 置换表命中 %.1f%%",
+                result.getDepth(), result.getNodes(), result.getNanos() / 1_000_000, result.getNps(),
+                table.getHitRate() * 100));
+        table.resetStats();
+        if (!applyOpponentMove(Square.toPos(Moves.from(move)), Square.toPos(Moves.to(move)), "电脑")) {
+            view.appendLog("电脑移动失败");
+        }
+    }
+
+    // 落下对方（网络对手或电脑）的一步，who 用于日志
+    private boolean applyOpponentMove(Pos from, Pos to, String who) {
         Piece piece = board.getPiece(from);
         if (piece == null) {
-            view.appendLog("网络错误：找不到要移动的棋子");
-            return;
+            return false;
         }
         
         Piece targetPiece = board.getPiece(to);
@@ -178,45 +209,65 @@ public class GameBoardService {
         boolean success = board.move(from, to);
         if (success) {
             lastMoveSide = piece.getColor();
-            Move move = new Move(from, to, targetPiece);
-            moveStack.push(move);
             
             String fromStr = from.toString();
             String toStr = to.toString();
             if (isCapture) {
-                view.appendLog("对方移动: " + piece.getName() + " 从 " + fromStr + " 到 " + toStr + " 并吃掉 " + targetPiece.getName());
+                view.appendLog(who + "移动: " + piece.getName() + " 从 " + fromStr + " 到 " + toStr + " 并吃掉 " + targetPiece.getName());
             } else {
-                view.appendLog("对方移动: " + piece.getName() + " 从 " + fromStr + " 到 " + toStr);
+                view.appendLog(who + "移动: " + piece.getName() + " 从 " + fromStr + " 到 " + toStr);
             }
             
-            selectedPiece = null;
+            selectedSquare = Square.NONE;
             view.refresh(board);
             ChangeLabel();
             timerService.startNewTimer();
             
-            // 检查游戏结束
-            Piece.Color current = board.getCurrentTurn();
-            if (board.isincheck(current)) {
-                if (CheckMate.checkMate(board)) {
-                    String winner = (current == Piece.Color.RED) ? "黑方" : "红方";
-                    view.appendLog("将死！" + winner + "获胜！");
-                    timerService.stop();
-                    view.showGameOverDialog(winner);
-                } else {
-                    String side = (current == Piece.Color.RED) ? "红方" : "黑方";
-                    view.appendLog(side + "已经被将军！");
-                }
-            } else if (CheckMate.checkMate(board)) {
-                String winner = (current == Piece.Color.RED) ? "黑方" : "红方";
+            checkGameOver();
+        }
+        return success;
+    }
+
+    // 轮到电脑走棋时开始后台搜索
+    private void requestAiMove() {
+        if (aiColor == null || board.getCurrentTurn() != aiColor) return;
+        view.appendLog("电脑思考中...");
+        AiManager.think(board, this::handleAiMove);
+    }
+
+    // ======= 将军 / 将死 / 困毙 判断 =======
+    private void checkGameOver() {
+        Piece.Color current = board.getCurrentTurn();
+        String side = (current == Piece.Color.RED) ? "红方" : "黑方";
+        String winner = (current == Piece.Color.RED) ? "黑方" : "红方";
+        // 状态通常已由后台预判算好，这里只是查表
+        switch (LegalMoveCache.status(board)) {
+            case CHECK:
+                view.appendLog(side + "已经被将军！");
+                MoveSpeculator.speculate(board);
+                requestAiMove();
+                break;
+            case CHECKMATE:
+                MoveSpeculator.cancel();
+                AiManager.cancel();
+                view.appendLog("将死！" + winner + "获胜！");
+                timerService.stop();
+                view.showGameOverDialog(winner);
+                break;
+            case STALEMATE:
+                MoveSpeculator.cancel();
+                AiManager.cancel();
                 view.appendLog("困毙！" + winner + "获胜！");
                 timerService.stop();
                 view.showGameOverDialog(winner);
-            }
-        } else {
-            view.appendLog("网络错误：对方移动失败");
+                break;
+            default:
+                // 对局继续：趁对方思考预判下一步
+                MoveSpeculator.speculate(board);
+                requestAiMove();
+                break;
         }
     }
-    public void clearHistory() { moveStack.clear(); }
 
     // ================= 悔棋（唯一修改点） =================
     public boolean tryRegret() {
@@ -228,6 +279,8 @@ public class GameBoardService {
             }
         }
 
+        if (aiColor != null) return tryAiRegret();
+
         if (lastMoveSide == null) return false;
 
         int left =
@@ -239,6 +292,8 @@ public class GameBoardService {
 
         boolean success = board.undo();
         if (!success) return false;
+        // 悔棋后重绘棋盘，原先的选中一并取消
+        selectedSquare = Square.NONE;
 
         if (lastMoveSide == Piece.Color.RED) {
             redRegretLeft--;
@@ -254,6 +309,7 @@ public class GameBoardService {
         view.refresh(board);
         ChangeLabel();
         view.updateRegretCount(redRegretLeft, blackRegretLeft);
+        MoveSpeculator.speculate(board);
 
         view.appendLog(
                 (lastMoveSide == Piece.Color.RED ? "红方" : "黑方")
@@ -269,6 +325,35 @@ public class GameBoardService {
         return true;
     }
     
+    // 人机模式的悔棋：停止电脑思考，撤回到上一次轮到玩家走棋时（电脑已应的一步一并撤回）
+    private boolean tryAiRegret() {
+        Piece.Color human = (aiColor == Piece.Color.RED) ? Piece.Color.BLACK : Piece.Color.RED;
+        int left = (human == Piece.Color.RED) ? redRegretLeft : blackRegretLeft;
+        if (left <= 0 || board.getMoveCount() == 0) return false;
+
+        AiManager.cancel();
+        do {
+            if (!board.undo()) break;
+        } while (board.getCurrentTurn() != human);
+        selectedSquare = Square.NONE;
+
+        if (human == Piece.Color.RED) {
+            redRegretLeft--;
+        } else {
+            blackRegretLeft--;
+        }
+
+        view.refresh(board);
+        ChangeLabel();
+        view.updateRegretCount(redRegretLeft, blackRegretLeft);
+        MoveSpeculator.speculate(board);
+        view.appendLog("悔棋成功，剩余次数：" + (human == Piece.Color.RED ? redRegretLeft : blackRegretLeft));
+        lastMoveSide = null;
+        // 电脑先行时撤回了第一步，重新让电脑走
+        requestAiMove();
+        return true;
+    }
+
     /**
      * 处理网络消息 - 悔棋
      */
@@ -286,6 +371,7 @@ public class GameBoardService {
         
         boolean success = board.undo();
         if (success) {
+            selectedSquare = Square.NONE;
             if (lastMoveSide == Piece.Color.RED) {
                 redRegretLeft--;
             } else {
@@ -295,6 +381,7 @@ public class GameBoardService {
             view.refresh(board);
             ChangeLabel();
             view.updateRegretCount(redRegretLeft, blackRegretLeft);
+            MoveSpeculator.speculate(board);
             view.appendLog("对方悔棋成功");
             
             lastMoveSide = null;
@@ -311,7 +398,7 @@ public class GameBoardService {
         int row = (int) Math.round((y - margin) / cellSize);
 
         if (col >= 0 && col < 9 && row >= 0 && row < 10) {
-            return new Pos(col, row);
+            return Square.toPos(Square.of(row, col));
         }
         return null;
     }
@@ -1,10 +1,13 @@
 package com.ydc.chess.controller;
 
 import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Pos;
 
 public interface GameBoardView {
     // 要求视图绘制当前棋盘
     void refresh(Board board);
+    // 高亮 pos 处的选中棋子并显示可走位置，pos 为 null 时取消选中
+    void showSelection(Pos pos);
     // 向日志区域追加文本
     void appendLog(String msg);
     // 更新回合标签文本
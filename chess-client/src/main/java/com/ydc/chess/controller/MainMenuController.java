@@ -7,6 +7,7 @@ import javafx.stage.Stage;
 public class MainMenuController {
 
     @FXML private Button localPlayButton;
+    @FXML private Button aiPlayButton;
     @FXML private Button networkPlayButton;
     @FXML private Button exitButton;
     @FXML private Button settingsButton;
@@ -19,6 +20,13 @@ public class MainMenuController {
         UIManager.goTo("GameBoard.fxml", "本地对战");
     }
 
+    @FXML
+    public void onAiPlayClicked() {
+        // 人机模式：玩家执红先行，电脑执黑
+        AiManager.setAiMode(true);
+        UIManager.goTo("GameBoard.fxml", "人机对战");
+    }
+
     @FXML
     public void onNetworkPlayClicked() {
         // 跳转到网络设置界面
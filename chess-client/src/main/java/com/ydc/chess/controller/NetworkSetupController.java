@@ -31,7 +31,7 @@ public class NetworkSetupController {
     
     @FXML
     public void initialize() {
-        networkService = new NetworkService();
+        networkService = new NetworkService(Platform::runLater);
         executorService = Executors.newCachedThreadPool();
         
         // 初始化界面
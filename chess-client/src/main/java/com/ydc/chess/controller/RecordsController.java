@@ -46,7 +46,7 @@ public class RecordsController {
         typeColumn = new TableColumn<>("类型");
         typeColumn.setPrefWidth(80);
         typeColumn.setCellValueFactory(cellData -> {
-            String type = cellData.getValue().getGameType() == GameRecord.GameType.LOCAL ? "本地" : "网络";
+            String type = cellData.getValue().getGameType().getDisplayName();
             return new javafx.beans.property.SimpleStringProperty(type);
         });
         
@@ -113,7 +113,7 @@ public class RecordsController {
         details.append("对局信息\n");
         details.append("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
         details.append("日期: ").append(GameRecordService.formatDate(record.getDate())).append("\n");
-        details.append("类型: ").append(record.getGameType() == GameRecord.GameType.LOCAL ? "本地对战" : "网络对战").append("\n");
+        details.append("类型: ").append(record.getGameType().getDisplayName()).append("对战\n");
         details.append("红方: ").append(record.getRedPlayerName()).append("\n");
         details.append("黑方: ").append(record.getBlackPlayerName()).append("\n");
         details.append("结果: ").append(record.getWinner()).append("\n");
@@ -3,7 +3,6 @@ package com.ydc.chess.controller;
 import com.ydc.chess.model.Board;
 import com.ydc.chess.model.GameRecord;
 import com.ydc.chess.model.Piece;
-import com.ydc.chess.model.Pos;
 import com.ydc.chess.service.GameRecordService;
 import com.ydc.chess.ui.BoardRenderer;
 import com.ydc.chess.ui.UIManager;
@@ -79,7 +78,7 @@ public class ReplayBoardController {
         
         // 初始化日志
         moveLogArea.appendText("复盘开始：\n");
-        moveLogArea.appendText("对局类型: " + (record.getGameType() == GameRecord.GameType.LOCAL ? "本地" : "网络") + "\n");
+        moveLogArea.appendText("对局类型: " + record.getGameType().getDisplayName() + "\n");
         moveLogArea.appendText("红方: " + record.getRedPlayerName() + "\n");
         moveLogArea.appendText("黑方: " + record.getBlackPlayerName() + "\n");
         moveLogArea.appendText("结果: " + record.getWinner() + "\n");
@@ -120,12 +119,9 @@ public class ReplayBoardController {
     @FXML
     public void onPrevClicked() {
         if (currentStep > 0 && !isAutoPlaying) {
-            // 回退一步（重新执行到上一步）
-            board.initialize();
+            // 回退一步：直接撤销棋盘历史里的最后一步
+            board.undo();
             currentStep--;
-            for (int i = 0; i < currentStep; i++) {
-                executeMove(moves.get(i));
-            }
             BoardRenderer.drawBoard(boardPane, board);
             updateInfo();
             updateButtons();
@@ -227,9 +223,7 @@ public class ReplayBoardController {
      * 执行一步移动
      */
     private void executeMove(GameRecord.MoveRecord move) {
-        Pos from = new Pos(move.getFromCol(), move.getFromRow());
-        Pos to = new Pos(move.getToCol(), move.getToRow());
-        board.move(from, to);
+        board.move(move.getFromRow(), move.getFromCol(), move.getToRow(), move.getToCol());
     }
     
     @FXML
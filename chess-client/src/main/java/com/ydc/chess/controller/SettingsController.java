@@ -14,6 +14,10 @@ public class SettingsController {
     @FXML private CheckBox animationCheckBox;
     @FXML private Spinner<Integer> regretSpinner;
     @FXML private Spinner<Integer> timerSpinner;
+    @FXML private Spinner<Integer> aiDepthSpinner;
+    @FXML private Spinner<Integer> aiTimeSpinner;
+    @FXML private Spinner<Integer> hashSizeSpinner;
+    @FXML private Spinner<Integer> aiThreadsSpinner;
     @FXML private TextField playerNameField;
     @FXML private ComboBox<String> themeComboBox;
     @FXML private Button saveButton;
@@ -39,6 +43,24 @@ public class SettingsController {
             new SpinnerValueFactory.IntegerSpinnerValueFactory(5, 60, settings.getTimerMinutes());
         timerSpinner.setValueFactory(timerFactory);
         
+        // 电脑搜索深度 (1-32层) 与每步思考时间 (1-60秒)
+        SpinnerValueFactory<Integer> aiDepthFactory = 
+            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 32, settings.getAiSearchDepth());
+        aiDepthSpinner.setValueFactory(aiDepthFactory);
+        SpinnerValueFactory<Integer> aiTimeFactory = 
+            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 60, settings.getAiThinkSeconds());
+        aiTimeSpinner.setValueFactory(aiTimeFactory);
+        
+        // 置换表大小 (1-1024MB)
+        SpinnerValueFactory<Integer> hashSizeFactory = 
+            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 1024, settings.getHashSizeMb());
+        hashSizeSpinner.setValueFactory(hashSizeFactory);
+        
+        // 电脑线程数 (1-64)
+        SpinnerValueFactory<Integer> aiThreadsFactory = 
+            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 64, settings.getAiThreads());
+        aiThreadsSpinner.setValueFactory(aiThreadsFactory);
+        
         playerNameField.setText(settings.getPlayerName());
         
         // 主题选择
@@ -53,6 +75,10 @@ public class SettingsController {
         settings.setAnimationEnabled(animationCheckBox.isSelected());
         settings.setMaxRegretCount(regretSpinner.getValue());
         settings.setTimerMinutes(timerSpinner.getValue());
+        settings.setAiSearchDepth(aiDepthSpinner.getValue());
+        settings.setAiThinkSeconds(aiTimeSpinner.getValue());
+        settings.setHashSizeMb(hashSizeSpinner.getValue());
+        settings.setAiThreads(aiThreadsSpinner.getValue());
         settings.setPlayerName(playerNameField.getText().trim());
         settings.setTheme(themeComboBox.getValue());
         
@@ -4,8 +4,9 @@ package com.ydc.chess.ui;
 import com.ydc.chess.model.Board;
 import com.ydc.chess.model.Piece;
 import com.ydc.chess.model.Pos;
-import com.ydc.chess.rule.RuleFactory;
-import javafx.beans.value.ChangeListener;
+import com.ydc.chess.model.Square;
+import com.ydc.chess.rule.LegalMoveCache;
+import com.ydc.chess.rule.MoveGenerator;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color; // 这是 JavaFX 的颜色，用于绘图
@@ -37,11 +38,24 @@ public class BoardRenderer {
     // 小圆的大小
     private static final double POSITION_DOT_RADIUS = 5.0;
 
+    // 走法生成缓冲区（仅在 FX 线程中使用）
+    private static final int[] MOVE_TARGETS = new int[MoveGenerator.MAX_TARGETS];
+
+    // 当前绘制的棋子节点，索引为 [col][row]；选中状态只保存在界面层，不写回棋子对象
+    private static Circle[][] pieceCircles = new Circle[COLS][ROWS];
+    private static Label[][] pieceLabels = new Label[COLS][ROWS];
+    // 当前选中棋子的位置（x=列, y=行），未选中为 null
+    private static Pos selectedPos = null;
+
     /**
      * 在指定的面板上绘制棋盘和棋子
      */
     public static void drawBoard(Pane boardPane, Board board) {
         boardPane.getChildren().clear();
+        // 重绘后节点全部更换，选中状态随之清空
+        pieceCircles = new Circle[COLS][ROWS];
+        pieceLabels = new Label[COLS][ROWS];
+        selectedPos = null;
         drawGridLines(boardPane);
         if (board != null) {
             drawPieces(boardPane, board);
@@ -157,19 +171,15 @@ public class BoardRenderer {
     }
 
     private static void drawPieces(Pane boardPane, Board board) {
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                Pos pos = new Pos(c, r);
-                Piece piece = board.getPiece(pos);
-                if (piece != null) {
-                    drawSinglePiece(boardPane, board, piece);
-                }
+        for (int sq = 0; sq < ROWS * COLS; sq++) {
+            Piece piece = board.getPiece(sq);
+            if (piece != null) {
+                drawSinglePiece(boardPane, piece, Square.toPos(sq));
             }
         }
     }
 
-    private static void drawSinglePiece(Pane pane, Board board, Piece piece) {
-        Pos pos = piece.getPosition();
+    private static void drawSinglePiece(Pane pane, Piece piece, Pos pos) {
         double centerX = MARGIN + pos.getX() * CELL_SIZE;
         double centerY = MARGIN + pos.getY() * CELL_SIZE;
 
@@ -200,83 +210,69 @@ public class BoardRenderer {
         // 5. 添加标识，方便查找
         circle.setId("piece_circle_" + pos.getX() + "_" + pos.getY());
         label.setId("piece_label_" + pos.getX() + "_" + pos.getY());
-        if (piece.getPickListener() != null) {
-            piece.ispickedProperty().removeListener(piece.getPickListener());
-        }
-        // 6. 添加监听器
-        ChangeListener<Boolean> listener = ((observable, oldValue, newValue) -> {
-            if (newValue) {
-                // 选中状态：放大
-                ScaleTransition circleTransition = new ScaleTransition(Duration.millis(200), circle);
-                circleTransition.setToX(1.2);
-                circleTransition.setToY(1.2);
-                circleTransition.play();
-
-                ScaleTransition labelTransition = new ScaleTransition(Duration.millis(200), label);
-                labelTransition.setToX(1.2);
-                labelTransition.setToY(1.2);
-                labelTransition.play();
-
-                circle.setStroke(Color.GOLD);
-                circle.setStrokeWidth(3.0);
-
-                circle.toFront();
-                label.toFront();
-
-                // 先隐藏此前的显示，再基于规则显示可走位置
-                hideAllPositionDots();
-                showMovePositions(board, piece);
+        pieceCircles[pos.getX()][pos.getY()] = circle;
+        pieceLabels[pos.getX()][pos.getY()] = label;
 
-            } else {
-                // 取消选中：恢复
-                ScaleTransition circleTransition = new ScaleTransition(Duration.millis(200), circle);
-                circleTransition.setToX(1.0);
-                circleTransition.setToY(1.0);
-                circleTransition.play();
-
-                ScaleTransition labelTransition = new ScaleTransition(Duration.millis(200), label);
-                labelTransition.setToX(1.0);
-                labelTransition.setToY(1.0);
-                labelTransition.play();
-
-                circle.setStroke(Color.BLACK);
-                circle.setStrokeWidth(2.0);
-
-                // 隐藏所有小圆
-                hideAllPositionDots();
-            }
-        });
+        pane.getChildren().addAll(circle, label);
+    }
 
-        piece.ispickedProperty().addListener(listener);
-        piece.setPickListener(listener);
+    /**
+     * 选中 pos 处的棋子：放大并描金边，显示可走位置；pos 为 null 时只取消当前选中
+     */
+    public static void showSelection(Board board, Pos pos) {
+        if (selectedPos != null) {
+            setHighlighted(selectedPos, false);
+            selectedPos = null;
+        }
+        hideAllPositionDots();
+        if (board == null || pos == null || board.getPiece(pos) == null) return;
+        selectedPos = pos;
+        setHighlighted(pos, true);
+        showMovePositions(board, pos);
+    }
 
-        pane.getChildren().addAll(circle, label);
+    public static void clearSelection() {
+        showSelection(null, null);
+    }
+
+    private static void setHighlighted(Pos pos, boolean on) {
+        Circle circle = pieceCircles[pos.getX()][pos.getY()];
+        Label label = pieceLabels[pos.getX()][pos.getY()];
+        if (circle == null || label == null) return;
+        double scale = on ? 1.2 : 1.0;
+
+        ScaleTransition circleTransition = new ScaleTransition(Duration.millis(200), circle);
+        circleTransition.setToX(scale);
+        circleTransition.setToY(scale);
+        circleTransition.play();
+
+        ScaleTransition labelTransition = new ScaleTransition(Duration.millis(200), label);
+        labelTransition.setToX(scale);
+        labelTransition.setToY(scale);
+        labelTransition.play();
+
+        if (on) {
+            // 选中状态：放大、金边并置顶
+            circle.setStroke(Color.GOLD);
+            circle.setStrokeWidth(3.0);
+            circle.toFront();
+            label.toFront();
+        } else {
+            // 取消选中：恢复
+            circle.setStroke(Color.BLACK);
+            circle.setStrokeWidth(2.0);
+        }
     }
+
     /**
-     * 根据基本走法规则显示该棋子可以走到的目标位置小圆（不做“自将”全局判定）
-     * 使用 Board.getGrid() 与 rule.isValidMove 计算。
+     * 显示该棋子可以走到的目标位置小圆：查 LegalMoveCache，已排除走后自将、对脸的走法
      */
-    public static void showMovePositions(Board board, Piece piece) {
-        if (board == null || piece == null) return;
-        Piece[][] grid = board.getGrid();
-        Pos p = piece.getPosition();
-        if (p == null) return;
-        int fr = p.getY(), fc = p.getX();
-
-        for (int tr = 0; tr < ROWS; tr++) {
-            for (int tc = 0; tc < COLS; tc++) {
-                // 跳过自身位置
-                if (tr == fr && tc == fc) continue;
-                // 目标为同色棋子也跳过（不可吃同色）
-                Piece dest = grid[tr][tc];
-                if (dest != null && dest.getColor() == piece.getColor()) continue;
-                // 基本规则校验（rule.isValidMove 接受 board, fromRow, fromCol, toRow, toCol）
-                boolean ok = RuleFactory.of(piece).isValidMove(grid, fr, fc, tr, tc);
-                if (ok) {
-                    // 显示该位置的小圆（注意 showPositionDot 参数为 x=col, y=row）
-                    showPositionDot(tc, tr);
-                }
-            }
+    public static void showMovePositions(Board board, Pos p) {
+        if (board == null || p == null) return;
+        int n = LegalMoveCache.targets(board, Square.of(p), MOVE_TARGETS);
+        for (int i = 0; i < n; i++) {
+            // 显示该位置的小圆（注意 showPositionDot 参数为 x=col, y=row）
+            showPositionDot(MOVE_TARGETS[i] % COLS, MOVE_TARGETS[i] / COLS);
         }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceSquareTables;
+
+/**
+ * 局面静态评估：子力 + 位置分，按对局阶段在中局、残局两套分数之间插值（见 PieceSquareTables）。
+ * 三个评估项由 Board 在走子时增量维护，这里只做读取与插值。
+ * 分数以走棋方为正（negamax 约定），单位约为百分之一个兵。
+ */
+public final class Evaluator {
+    private Evaluator() {
+    }
+
+    /**
+     * 单个棋子编号的子力价值，用于走法排序
+     */
+    public static int value(int code) {
+        return PieceSquareTables.material(code);
+    }
+
+    /**
+     * board 当前局面对走棋方的评分
+     */
+    public static int evaluate(Board board) {
+        int score = PieceSquareTables.taper(board.getMgScore(), board.getEgScore(), board.getPhase());
+        return board.getCurrentTurn() == Piece.Color.RED ? score : -score;
+    }
+}
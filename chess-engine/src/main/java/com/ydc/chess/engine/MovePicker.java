@@ -0,0 +1,144 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.rule.MoveGenerator;
+
+/**
+ * 分阶段的走法排序：置换表走法 → 吃子（MVV-LVA）→ 两个杀手走法 → 其余不吃子走法（按历史表）。
+ * 每个阶段用到时才生成对应的走法，前面的走法已经造成截断时，不吃子走法根本不会生成。
+ * 返回的是伪合法走法，由调用方试走后过滤自将；置换表、杀手走法先用 MoveGenerator.isPseudoLegal 检查，
+ * 并在后续阶段中去重。每层搜索一个实例，缓冲区重复使用。
+ */
+final class MovePicker {
+    private static final int HASH = 0;
+    private static final int GEN_CAPTURES = 1;
+    private static final int CAPTURES = 2;
+    private static final int KILLER_1 = 3;
+    private static final int KILLER_2 = 4;
+    private static final int GEN_QUIETS = 5;
+    private static final int QUIETS = 6;
+    private static final int DONE = 7;
+
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private final int[] scores = new int[MoveGenerator.MAX_MOVES];
+    // 历史表由 Searcher 维护，这里只读：[走棋方 * 8100 + from * 90 + to]
+    private final int[] history;
+
+    private Board board;
+    private int stage;
+    private int count;
+    private int index;
+    private int hashMove;
+    private int killer1;
+    private int killer2;
+    // 只搜吃子（静态搜索）时，吃子阶段之后直接结束
+    private boolean capturesOnly;
+
+    MovePicker(int[] history) {
+        this.history = history;
+    }
+
+    /**
+     * 完整搜索用：hashMove / killer 可为 Moves.NONE
+     */
+    void init(Board board, int hashMove, int killer1, int killer2) {
+        this.board = board;
+        this.hashMove = hashMove;
+        this.killer1 = killer1;
+        this.killer2 = killer2;
+        this.capturesOnly = false;
+        stage = HASH;
+    }
+
+    /**
+     * 静态搜索用：只返回吃子
+     */
+    void initCaptures(Board board) {
+        this.board = board;
+        this.hashMove = Moves.NONE;
+        this.killer1 = Moves.NONE;
+        this.killer2 = Moves.NONE;
+        this.capturesOnly = true;
+        stage = GEN_CAPTURES;
+    }
+
+    /**
+     * 下一个走法，没有了返回 Moves.NONE
+     */
+    int next() {
+        while (true) {
+            switch (stage) {
+                case HASH:
+                    stage = GEN_CAPTURES;
+                    if (hashMove != Moves.NONE && MoveGenerator.isPseudoLegal(board, hashMove)) return hashMove;
+                    hashMove = Moves.NONE;
+                    break;
+                case GEN_CAPTURES:
+                    count = MoveGenerator.generateCaptures(board, moves);
+                    index = 0;
+                    for (int i = 0; i < count; i++) {
+                        scores[i] = Evaluator.value(Moves.captured(moves[i])) * 16
+                                - Evaluator.value(Moves.piece(moves[i])) / 16;
+                    }
+                    stage = CAPTURES;
+                    break;
+                case CAPTURES:
+                    while (index < count) {
+                        int move = pick();
+                        if (move != hashMove) return move;
+                    }
+                    stage = capturesOnly ? DONE : KILLER_1;
+                    break;
+                case KILLER_1:
+                    stage = KILLER_2;
+                    if (isUsableKiller(killer1)) return killer1;
+                    break;
+                case KILLER_2:
+                    stage = GEN_QUIETS;
+                    if (killer2 != killer1 && isUsableKiller(killer2)) return killer2;
+                    break;
+                case GEN_QUIETS:
+                    count = MoveGenerator.generateQuiets(board, moves);
+                    index = 0;
+                    int base = board.getCurrentTurn().ordinal() * Searcher.HISTORY_SIZE;
+                    for (int i = 0; i < count; i++) {
+                        scores[i] = history[base + Searcher.historyIndex(moves[i])];
+                    }
+                    stage = QUIETS;
+                    break;
+                case QUIETS:
+                    while (index < count) {
+                        int move = pick();
+                        if (move != hashMove && move != killer1 && move != killer2) return move;
+                    }
+                    stage = DONE;
+                    break;
+                default:
+                    return Moves.NONE;
+            }
+        }
+    }
+
+    // 杀手走法来自同一层的其他局面：必须是本局面的不吃子伪合法走法，且不同于置换表走法
+    private boolean isUsableKiller(int killer) {
+        return killer != Moves.NONE && killer != hashMove
+                && !Moves.isCapture(killer) && MoveGenerator.isPseudoLegal(board, killer);
+    }
+
+    // 选择排序的一步：把 index 之后排序分最高的走法换到 index 处并返回
+    private int pick() {
+        int best = index;
+        for (int j = index + 1; j < count; j++) {
+            if (scores[j] > scores[best]) best = j;
+        }
+        int move = moves[best];
+        moves[best] = moves[index];
+        moves[index] = move;
+        int s = scores[best];
+        scores[best] = scores[index];
+        scores[index] = s;
+        index++;
+        return move;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.rule.LegalMoveCache;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 玩家思考时的后台预判：在棋盘副本上为当前局面、以及每个合法应着之后的局面
+ * 计算合法走法与对局状态，存入 LegalMoveCache。玩家落子后的校验、将死判断便都是缓存命中。
+ * 只有一个守护线程；局面变化后再次调用 speculate，旧任务在下一个走法处自行放弃。
+ */
+public final class MoveSpeculator {
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "move-speculator");
+        t.setDaemon(true);
+        return t;
+    });
+    // 每次 speculate / cancel 递增，任务发现与自己的编号不同即停止
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private MoveSpeculator() {
+    }
+
+    /**
+     * 开始为 board 的当前局面预判；须在持有 board 的线程（界面线程）上调用，副本在此处复制
+     */
+    public static void speculate(Board board) {
+        long generation = GENERATION.incrementAndGet();
+        Board copy = board.cloneBoard();
+        EXECUTOR.execute(() -> run(copy, generation));
+    }
+
+    /**
+     * 放弃正在进行的预判（如对局结束）
+     */
+    public static void cancel() {
+        GENERATION.incrementAndGet();
+    }
+
+    private static void run(Board board, long generation) {
+        if (GENERATION.get() != generation) return;
+        int[] moves = LegalMoveCache.fill(board);
+        for (int move : moves) {
+            if (GENERATION.get() != generation) return;
+            board.makeMove(move);
+            LegalMoveCache.fill(board);
+            board.unmakeMove();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy SMP 多线程搜索：多个 Searcher 在各自的棋盘副本上同时搜索同一局面，只通过共享的置换表交换结果。
+ * 辅助线程的迭代起始深度错开（奇数号从第 2 层开始），彼此填充对方将要用到的表项；
+ * 主线程（调用 search 的线程）在预算内结束后置位共用的停止标志，辅助线程随即返回，
+ * 最终取完成深度最大的结果（相同时以主线程为准）。
+ * 节点预算按线程数平分，时间与深度预算各线程相同。
+ */
+public class ParallelSearcher {
+    // 辅助线程池：守护线程，空闲一段时间后自动回收
+    private static final ExecutorService HELPERS = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "search-helper");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Board board;
+    private final TranspositionTable table;
+    private final int threads;
+    private final AtomicBoolean stop = new AtomicBoolean();
+
+    /**
+     * board 由主线程直接搜索（同 Searcher，应为副本），辅助线程各自再复制一份
+     */
+    public ParallelSearcher(Board board, TranspositionTable table, int threads) {
+        this.board = board;
+        this.table = table;
+        this.threads = Math.max(1, threads);
+    }
+
+    public SearchResult search(SearchLimits limits) {
+        long start = System.nanoTime();
+        SearchLimits perThread = limits.getNodes() > 0
+                ? new SearchLimits(limits.getDepth(), Math.max(1, limits.getNodes() / threads), limits.getTimeMillis())
+                : limits;
+        table.newSearch();
+
+        // 副本须在主线程开始走子之前复制
+        Searcher main = new Searcher(board, table, stop, 1);
+        List<Future<SearchResult>> helpers = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            Searcher helper = new Searcher(board.cloneBoard(), table, stop, 1 + i % 2);
+            helpers.add(HELPERS.submit(() -> helper.search(perThread)));
+        }
+
+        SearchResult best = main.search(perThread);
+        stop.set(true);
+        long nodes = best.getNodes();
+        for (Future<SearchResult> future : helpers) {
+            SearchResult result = join(future);
+            if (result == null) continue;
+            nodes += result.getNodes();
+            if (result.getDepth() > best.getDepth() && result.getBestMove() != Moves.NONE) best = result;
+        }
+        // 停止请求只作用于本次搜索（在开始前到达的同样有效）
+        stop.set(false);
+        return new SearchResult(best.getBestMove(), best.getScore(), best.getDepth(), nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * 请求停止正在进行（或即将开始）的搜索，可在其他线程调用
+     */
+    public void stop() {
+        stop.set(true);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    private static SearchResult join(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            System.err.println("辅助搜索线程出错: " + e.getCause());
+            return null;
+        }
+    }
+}
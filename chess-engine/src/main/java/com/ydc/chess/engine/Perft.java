@@ -0,0 +1,184 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.model.PieceSquareTables;
+import com.ydc.chess.model.Zobrist;
+import com.ydc.chess.rule.MoveGenerator;
+
+import java.io.PrintStream;
+
+/**
+ * Perft：统计指定深度内的合法走法树节点数，用于衡量走法生成速度、发现规则回归。
+ * 合法走法来自 MoveGenerator.generateLegal（牵制分析直接判定，其余试走后检测自将）。
+ *
+ * 命令行用法：
+ *   无参数 / --depth N             跑内置参考局面，节点数不符时抛出异常
+ *   --fen "FEN" --depth N          统计指定局面
+ *   --divide                       按根节点走法分别输出节点数
+ *   --verify-hash                  每次 unmake 后校验 Zobrist 键与增量评估项
+ * Maven：mvn -Pperft verify -Dperft.args="--depth 5"
+ */
+public class Perft {
+    private static final int MAX_DEPTH = 32;
+
+    // 参考局面及第 1 层起的节点数
+    private static final String[] REFERENCE_FENS = {
+            "rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C5C1/9/RNBAKABNR w",
+            "r1ba1a3/4kn3/2n1b4/pNp1p1p1p/4c4/6P2/P1P2R2P/1CcC5/9/2BAKAB2 w",
+            "1cbak4/9/n2a5/2p1p3p/5cp2/2n2N3/6PCP/3AB4/2C6/3A1K1N1 w",
+            "5a3/3k5/3aR4/9/5r3/5n3/9/3A1A3/5K3/2BC2B2 w",
+            "CRN1k1b2/3ca4/4ba3/9/2nr5/9/9/4B4/4A4/4KA3 w",
+            "R1N1k1b2/9/3aba3/9/2nr5/2B6/9/4B4/4A4/4KA3 w",
+            "C1nNk4/9/9/9/9/9/n1pp5/B3C4/9/3A1K3 w",
+            "4ka3/4a4/9/9/4N4/p8/9/4C3c/7n1/2BK5 w",
+            "2b1ka3/9/b3N4/4n4/9/9/9/4C4/2p6/2BK5 w",
+            "1C2ka3/9/C1Nab1n2/p3p3p/6p2/9/P3P3P/3AB4/3p2c2/c1BAK4 w",
+            "CnN1k1b2/c3a4/4ba3/9/2nr5/9/9/4C4/4A4/4KA3 w",
+    };
+    private static final long[][] REFERENCE_COUNTS = {
+            {44, 1920, 79666, 3290240, 133312995},
+            {38, 1128, 43929, 1339047},
+            {7, 281, 8620, 326201},
+            {25, 424, 9850, 202884},
+            {28, 516, 14808, 395483},
+            {21, 364, 7626, 162837},
+            {28, 222, 6241, 64971},
+            {23, 345, 8124, 149272},
+            {21, 195, 3883, 48060},
+            {30, 830, 22787, 649866},
+            {19, 583, 11714, 376467},
+    };
+
+    private final Board board;
+    private final boolean verifyHash;
+    private final int[][] moves = new int[MAX_DEPTH][MoveGenerator.MAX_MOVES];
+
+    public Perft(Board board, boolean verifyHash) {
+        this.board = board;
+        this.verifyHash = verifyHash;
+    }
+
+    public long perft(int depth) {
+        return search(depth, 0);
+    }
+
+    /**
+     * 逐个输出根节点走法的子树节点数，返回总数
+     */
+    public long divide(int depth, PrintStream out) {
+        if (depth < 1) return 1;
+        int n = MoveGenerator.generateLegal(board, moves[0]);
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            int move = moves[0][i];
+            long before = board.getHash();
+            board.makeMove(move);
+            long count = search(depth - 1, 1);
+            out.println(Moves.toIccs(move) + ": " + count);
+            total += count;
+            board.unmakeMove();
+            checkHash(before, move);
+        }
+        return total;
+    }
+
+    private long search(int depth, int ply) {
+        if (depth == 0) return 1;
+        int[] list = moves[ply];
+        int n = MoveGenerator.generateLegal(board, list);
+        long nodes = 0;
+        for (int i = 0; i < n; i++) {
+            long before = board.getHash();
+            board.makeMove(list[i]);
+            nodes += search(depth - 1, ply + 1);
+            board.unmakeMove();
+            checkHash(before, list[i]);
+        }
+        return nodes;
+    }
+
+    private void checkHash(long before, int move) {
+        if (!verifyHash) return;
+        long after = board.getHash();
+        if (after != before || after != Zobrist.compute(board)) {
+            throw new IllegalStateException("Zobrist 键不一致：撤销 " + Moves.toIccs(move)
+                    + " 后 " + Long.toHexString(after) + "，走前 " + Long.toHexString(before)
+                    + "，重算 " + Long.toHexString(Zobrist.compute(board)) + "，局面 " + board.toFen());
+        }
+        int[] terms = PieceSquareTables.compute(board);
+        if (terms[0] != board.getMgScore() || terms[1] != board.getEgScore() || terms[2] != board.getPhase()) {
+            throw new IllegalStateException("增量评估项不一致：撤销 " + Moves.toIccs(move)
+                    + " 后 " + board.getMgScore() + "/" + board.getEgScore() + "/" + board.getPhase()
+                    + "，重算 " + terms[0] + "/" + terms[1] + "/" + terms[2] + "，局面 " + board.toFen());
+        }
+    }
+
+    /**
+     * 跑全部参考局面到 maxDepth 层（不超过已知数据），返回不一致的个数
+     */
+    public static int runReferenceSuite(int maxDepth, boolean verifyHash, PrintStream out) {
+        int failures = 0;
+        Board board = new Board();
+        for (int i = 0; i < REFERENCE_FENS.length; i++) {
+            board.loadFen(REFERENCE_FENS[i]);
+            Perft perft = new Perft(board, verifyHash);
+            out.println(REFERENCE_FENS[i]);
+            for (int depth = 1; depth <= Math.min(maxDepth, REFERENCE_COUNTS[i].length); depth++) {
+                long start = System.nanoTime();
+                long nodes = perft.perft(depth);
+                long expected = REFERENCE_COUNTS[i][depth - 1];
+                boolean ok = nodes == expected;
+                if (!ok) failures++;
+                out.println(report(depth, nodes, System.nanoTime() - start)
+                        + (ok ? "" : "  期望 " + expected + " ✗"));
+            }
+        }
+        return failures;
+    }
+
+    private static String report(int depth, long nodes, long nanos) {
+        long nps = nanos > 0 ? nodes * 1_000_000_000L / nanos : 0;
+        return String.format("  depth %d: %d 节点, %d ms, %d nps", depth, nodes, nanos / 1_000_000, nps);
+    }
+
+    public static void main(String[] args) {
+        String fen = null;
+        int depth = 4;
+        boolean divide = false;
+        boolean verifyHash = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fen": fen = args[++i]; break;
+                case "--depth": depth = Integer.parseInt(args[++i]); break;
+                case "--divide": divide = true; break;
+                case "--verify-hash": verifyHash = true; break;
+                default: throw new IllegalArgumentException("未知参数: " + args[i]);
+            }
+        }
+
+        if (fen == null) {
+            int failures = runReferenceSuite(depth, verifyHash, System.out);
+            if (failures > 0) {
+                throw new IllegalStateException("perft 参考局面不一致: " + failures + " 处");
+            }
+            System.out.println("perft 参考局面全部通过");
+            return;
+        }
+
+        Board board = new Board();
+        board.loadFen(fen);
+        Perft perft = new Perft(board, verifyHash);
+        if (divide) {
+            long start = System.nanoTime();
+            long nodes = perft.divide(depth, System.out);
+            System.out.println(report(depth, nodes, System.nanoTime() - start));
+        } else {
+            for (int d = 1; d <= depth; d++) {
+                long start = System.nanoTime();
+                long nodes = perft.perft(d);
+                System.out.println(report(d, nodes, System.nanoTime() - start));
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ydc.chess.engine;
+
+/**
+ * 一次搜索的预算：最大深度、节点数、时间（毫秒），节点与时间为 0 表示不限。
+ * 任一预算用尽即停止；深度 1 总会搜完，保证有走法可下。
+ */
+public final class SearchLimits {
+    public static final int MAX_DEPTH = 64;
+
+    private final int depth;
+    private final long nodes;
+    private final long timeMillis;
+
+    public SearchLimits(int depth, long nodes, long timeMillis) {
+        this.depth = Math.max(1, Math.min(depth, MAX_DEPTH));
+        this.nodes = Math.max(0, nodes);
+        this.timeMillis = Math.max(0, timeMillis);
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, 0, 0);
+    }
+
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(MAX_DEPTH, nodes, 0);
+    }
+
+    public static SearchLimits time(long timeMillis) {
+        return new SearchLimits(MAX_DEPTH, 0, timeMillis);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Moves;
+
+/**
+ * 搜索结果：最佳走法（打包格式见 Moves，无合法走法时为 Moves.NONE）、
+ * 对走棋方的评分、完成的深度与节点数、耗时
+ */
+public final class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long nanos;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long nanos) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.nanos = nanos;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * 每秒节点数
+     */
+    public long getNps() {
+        return nanos > 0 ? nodes * 1_000_000_000L / nanos : 0;
+    }
+
+    /**
+     * 评分是否为杀棋分（正为走棋方能杀，负为被杀）
+     */
+    public boolean isMate() {
+        return Math.abs(score) >= Searcher.MATE - Searcher.MAX_PLY;
+    }
+
+    @Override
+    public String toString() {
+        String move = bestMove == Moves.NONE ? "(none)" : Moves.toIccs(bestMove);
+        return String.format("depth %d score %d nodes %d time %d ms nps %d bestmove %s",
+                depth, score, nodes, nanos / 1_000_000, getNps(), move);
+    }
+}
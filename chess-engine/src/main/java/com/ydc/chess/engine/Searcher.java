@@ -0,0 +1,296 @@
+package com.ydc.chess.engine;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.model.Piece;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 迭代加深 + 主要变例搜索（PVS，alpha-beta 的零窗口变体）+ 吃子静态搜索。
+ * 搜索期间直接在 board 上 makeMove / unmakeMove，结束后局面复原；
+ * board 不能与界面线程共享，应传入 cloneBoard() 得到的副本。
+ * 走法按阶段生成与排序（见 MovePicker）：置换表走法、MVV-LVA 吃子、每层两个杀手走法、按历史表排序的其余走法；
+ * 每层的 MovePicker 预先分配，搜索过程中不创建对象，节点速度只取决于走法生成与评估。
+ * 预算（SearchLimits）与 stop() 每 1024 个节点检查一次，节点预算因此允许略微超出。
+ * 置换表可由多个 Searcher 共享（见 TranspositionTable），在非主要变例节点上直接用于截断。
+ */
+public class Searcher {
+    // 杀棋分：被杀为 -MATE + 层数，越快的杀分数越高
+    public static final int MATE = 30000;
+    public static final int MAX_PLY = 128;
+    // 历史表中一方的大小：from * 90 + to
+    static final int HISTORY_SIZE = Bitboard.SQUARES * Bitboard.SQUARES;
+
+    private static final int INFINITY = MATE + 1;
+    private static final int CHECK_INTERVAL = 1023;
+    // 未指定置换表时的默认大小（MB）
+    private static final int DEFAULT_TABLE_MB = 16;
+    // 历史分超过该值时整表减半，旧的统计随之淡化
+    private static final int HISTORY_LIMIT = 1 << 24;
+
+    private final Board board;
+    private final TranspositionTable table;
+    private final MovePicker[] pickers = new MovePicker[MAX_PLY];
+    // 每层最近两个造成截断的不吃子走法
+    private final int[][] killers = new int[MAX_PLY][2];
+    // 不吃子走法造成截断时累加 depth²：[走棋方 * HISTORY_SIZE + from * 90 + to]
+    private final int[] history = new int[2 * HISTORY_SIZE];
+    private final AtomicBoolean stop;
+    // 与其他线程共用的停止标志由 ParallelSearcher 复位，这里不能清除
+    private final boolean sharedStop;
+    private final int startDepth;
+
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private boolean aborted;
+    private int rootDepth;
+    private int rootMoveCount;
+    // 上一轮迭代的最佳走法（本轮根节点最先搜索）与本轮至今的最佳走法
+    private int pvMove;
+    private int iterationBest;
+
+    public Searcher(Board board) {
+        this(board, new TranspositionTable(DEFAULT_TABLE_MB));
+    }
+
+    public Searcher(Board board, TranspositionTable table) {
+        this(board, table, new AtomicBoolean(), false, 1);
+    }
+
+    /**
+     * 并行搜索的工作者：共用停止标志，迭代从 startDepth 开始（错开各线程的深度）
+     */
+    Searcher(Board board, TranspositionTable table, AtomicBoolean stop, int startDepth) {
+        this(board, table, stop, true, startDepth);
+    }
+
+    private Searcher(Board board, TranspositionTable table, AtomicBoolean stop, boolean sharedStop, int startDepth) {
+        this.board = board;
+        this.table = table;
+        this.stop = stop;
+        this.sharedStop = sharedStop;
+        this.startDepth = startDepth;
+        for (int i = 0; i < MAX_PLY; i++) {
+            pickers[i] = new MovePicker(history);
+        }
+    }
+
+    /**
+     * 在预算内搜索当前局面，返回最后一轮完整（或部分完成）迭代的最佳走法
+     */
+    public SearchResult search(SearchLimits limits) {
+        long start = System.nanoTime();
+        nodes = 0;
+        nodeLimit = limits.getNodes();
+        deadline = limits.getTimeMillis() > 0 ? start + limits.getTimeMillis() * 1_000_000L : 0;
+        aborted = false;
+        rootMoveCount = board.getMoveCount();
+        pvMove = Moves.NONE;
+        if (!sharedStop) table.newSearch();
+        // 杀手走法只对原局面附近有效；历史分保留一半，复用同一 Searcher 时仍有参考价值
+        for (int[] k : killers) {
+            k[0] = Moves.NONE;
+            k[1] = Moves.NONE;
+        }
+        ageHistory();
+
+        int bestMove = Moves.NONE;
+        int bestScore = 0;
+        int completed = 0;
+        for (rootDepth = Math.min(startDepth, limits.getDepth()); rootDepth <= limits.getDepth(); rootDepth++) {
+            iterationBest = Moves.NONE;
+            int score = pvs(rootDepth, 0, -INFINITY, INFINITY);
+            if (aborted) {
+                // 部分完成的一轮：最先搜索的是上一轮最佳走法，能替换它的走法同样可信
+                if (iterationBest != Moves.NONE) bestMove = iterationBest;
+                break;
+            }
+            bestMove = iterationBest;
+            bestScore = score;
+            completed = rootDepth;
+            pvMove = bestMove;
+            // 已找到杀棋或无子可走，再加深没有意义
+            if (bestMove == Moves.NONE || Math.abs(score) >= MATE - MAX_PLY) break;
+            // 剩余时间多半不够再搜一轮
+            if (deadline > 0 && System.nanoTime() - start > (deadline - start) / 2) break;
+        }
+        // 停止请求只作用于本次搜索（在开始前到达的同样有效）
+        if (!sharedStop) stop.set(false);
+        return new SearchResult(bestMove, bestScore, completed, nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * 请求停止正在进行（或即将开始）的搜索，可在其他线程调用；search 随即返回已有的最佳走法
+     */
+    public void stop() {
+        stop.set(true);
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    private int pvs(int depth, int ply, int alpha, int beta) {
+        if (depth <= 0) return quiesce(ply, alpha, beta);
+        count();
+        if (aborted) return 0;
+        if (ply > 0 && isRepetition()) return 0;
+        if (ply >= MAX_PLY - 1) return Evaluator.evaluate(board);
+
+        long key = board.getHash();
+        long entry = table.probe(key);
+        int hashMove = TranspositionTable.move(entry);
+        // 只在零窗口（非主要变例）节点截断，主要变例保持完整
+        if (entry != 0 && ply > 0 && beta - alpha == 1 && TranspositionTable.depth(entry) >= depth) {
+            int value = fromTable(TranspositionTable.score(entry), ply);
+            int bound = TranspositionTable.bound(entry);
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER && value >= beta)
+                    || (bound == TranspositionTable.UPPER && value <= alpha)) {
+                return value;
+            }
+        }
+
+        Piece.Color side = board.getCurrentTurn();
+        int storedDepth = depth;
+        int originalAlpha = alpha;
+        // 被将军时延伸一层，避免在地平线上漏掉杀棋；限制在根深度的两倍以内
+        if (board.isincheck(side) && ply < 2 * rootDepth) depth++;
+
+        MovePicker picker = pickers[ply];
+        int[] killer = killers[ply];
+        picker.init(board, ply == 0 && pvMove != Moves.NONE ? pvMove : hashMove, killer[0], killer[1]);
+
+        int best = -INFINITY;
+        int bestMove = Moves.NONE;
+        int legal = 0;
+        int move;
+        while ((move = picker.next()) != Moves.NONE) {
+            board.makeMove(move);
+            if (board.isincheck(side)) {
+                board.unmakeMove();
+                continue;
+            }
+            legal++;
+            int value;
+            if (legal == 1) {
+                value = -pvs(depth - 1, ply + 1, -beta, -alpha);
+            } else {
+                // 先用零窗口证明不如当前最佳，失败再以完整窗口重搜
+                value = -pvs(depth - 1, ply + 1, -alpha - 1, -alpha);
+                if (value > alpha && value < beta) value = -pvs(depth - 1, ply + 1, -beta, -alpha);
+            }
+            board.unmakeMove();
+            if (aborted) return 0;
+
+            if (value > best) {
+                best = value;
+                if (value > alpha) {
+                    alpha = value;
+                    bestMove = move;
+                    if (ply == 0) iterationBest = move;
+                    if (alpha >= beta) {
+                        if (!Moves.isCapture(move)) updateQuietCutoff(move, side, depth, killer);
+                        break;
+                    }
+                }
+            }
+        }
+        // 象棋中无子可走（困毙）与被将死同样判负
+        if (legal == 0) best = -MATE + ply;
+
+        int bound = best >= beta ? TranspositionTable.LOWER
+                : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(key, bestMove, toTable(best, ply), storedDepth, bound);
+        return best;
+    }
+
+    // 不吃子走法造成截断：记为本层杀手走法，并提高其历史分
+    private void updateQuietCutoff(int move, Piece.Color side, int depth, int[] killer) {
+        if (killer[0] != move) {
+            killer[1] = killer[0];
+            killer[0] = move;
+        }
+        int index = side.ordinal() * HISTORY_SIZE + historyIndex(move);
+        history[index] += depth * depth;
+        if (history[index] >= HISTORY_LIMIT) ageHistory();
+    }
+
+    private void ageHistory() {
+        for (int i = 0; i < history.length; i++) {
+            history[i] >>= 1;
+        }
+    }
+
+    static int historyIndex(int move) {
+        return Moves.from(move) * Bitboard.SQUARES + Moves.to(move);
+    }
+
+    // 杀棋分在表中记为距本局面的步数，取出时再换算回距根节点的步数
+    private static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score + ply;
+        if (score <= -MATE + MAX_PLY) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score - ply;
+        if (score <= -MATE + MAX_PLY) return score + ply;
+        return score;
+    }
+
+    // 只搜吃子直到局面平静，防止在吃子交换中途评估
+    private int quiesce(int ply, int alpha, int beta) {
+        count();
+        if (aborted) return 0;
+        int standPat = Evaluator.evaluate(board);
+        if (ply >= MAX_PLY - 1 || standPat >= beta) return standPat;
+        if (standPat > alpha) alpha = standPat;
+
+        Piece.Color side = board.getCurrentTurn();
+        MovePicker picker = pickers[ply];
+        picker.initCaptures(board);
+
+        int move;
+        while ((move = picker.next()) != Moves.NONE) {
+            board.makeMove(move);
+            if (board.isincheck(side)) {
+                board.unmakeMove();
+                continue;
+            }
+            int value = -quiesce(ply + 1, -beta, -alpha);
+            board.unmakeMove();
+            if (aborted) return 0;
+            if (value > alpha) {
+                alpha = value;
+                if (alpha >= beta) break;
+            }
+        }
+        return alpha;
+    }
+
+    private void count() {
+        if ((++nodes & CHECK_INTERVAL) != 0 || rootDepth == 1) return;
+        if (stop.get()
+                || (nodeLimit > 0 && nodes >= nodeLimit)
+                || (deadline > 0 && System.nanoTime() >= deadline)) {
+            aborted = true;
+        }
+    }
+
+    // 搜索树内同一方走棋的局面重复出现，按和棋处理（对局历史不在副本上，不参与判断）
+    private boolean isRepetition() {
+        long hash = board.getHash();
+        for (int i = board.getMoveCount() - 4; i >= rootMoveCount; i -= 2) {
+            if (board.getHashBefore(i) == hash) return true;
+        }
+        return false;
+    }
+}
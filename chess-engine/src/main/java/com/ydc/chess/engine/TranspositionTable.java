@@ -0,0 +1,188 @@
+package com.ydc.chess.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 置换表：以局面的 Zobrist 键为下标缓存搜索结果，同一局面经不同走法次序到达时不必重搜。
+ * 每个表项是 long[] 中相邻的两个 long：[键 ^ 数据, 数据]，数据的位布局：
+ *   bit 0-31   最佳走法（打包格式见 Moves，NONE 表示没有）
+ *   bit 32-47  分数（有符号 16 位，杀棋分已换算为相对本局面的距离）
+ *   bit 48-55  剩余深度
+ *   bit 56-57  边界类型（UPPER / LOWER / EXACT，不为 0，因而有效数据不为 0）
+ *   bit 58-63  写入时的搜索代数，用于淘汰旧搜索留下的表项
+ * 多个搜索线程可以不加锁地共享一张表：写入是两次独立的 long 写，读出时用 键 ^ 数据 还原键，
+ * 另一线程写到一半的表项还原出的键对不上，按未命中处理（XOR 无锁法）。
+ */
+public final class TranspositionTable {
+    public static final int UPPER = 1;
+    public static final int LOWER = 2;
+    public static final int EXACT = 3;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int AGE_MASK = 0x3F;
+
+    private final long[] entries;
+    private final int mask;
+    private volatile int age;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder overwrites = new LongAdder();
+
+    /**
+     * 创建约 megabytes MB 的表（表项数取不超过该大小的 2 的幂）
+     */
+    public TranspositionTable(int megabytes) {
+        long bytes = Math.max(1, megabytes) * 1024L * 1024L;
+        int count = Integer.highestOneBit((int) Math.min(bytes / ENTRY_BYTES, 1 << 28));
+        entries = new long[count * 2];
+        mask = count - 1;
+    }
+
+    /**
+     * 每次搜索开始时调用，之后写入的表项优先于旧搜索的表项保留
+     */
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    /**
+     * 查找 key 对应的数据，未命中返回 0；数据用 move / score / depth / bound 解读
+     */
+    public long probe(long key) {
+        probes.increment();
+        int i = index(key);
+        long data = entries[i + 1];
+        if (data == 0) return 0;
+        if ((entries[i] ^ data) != key) {
+            collisions.increment();
+            return 0;
+        }
+        hits.increment();
+        return data;
+    }
+
+    /**
+     * 写入一个表项。同一局面总是覆盖（新结果没有走法时保留原来的最佳走法）；
+     * 其他局面只在原表项来自旧搜索、或深度不超过新表项时才被替换
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int i = index(key);
+        long old = entries[i + 1];
+        if (old != 0) {
+            boolean sameKey = (entries[i] ^ old) == key;
+            if (sameKey) {
+                if (move == 0) move = move(old);
+            } else {
+                if (age(old) == age && depth(old) > depth) return;
+                overwrites.increment();
+            }
+        }
+        long data = pack(move, score, depth, bound, age);
+        entries[i] = key ^ data;
+        entries[i + 1] = data;
+        stores.increment();
+    }
+
+    public void clear() {
+        Arrays.fill(entries, 0L);
+    }
+
+    public void resetStats() {
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+        stores.reset();
+        overwrites.reset();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * 查找时槽位被其他局面占用的次数
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * 写入时替换掉其他局面表项的次数
+     */
+    public long getOverwrites() {
+        return overwrites.sum();
+    }
+
+    public double getHitRate() {
+        long p = probes.sum();
+        return p > 0 ? (double) hits.sum() / p : 0;
+    }
+
+    /**
+     * 表的占用率（千分比），抽样前 1000 个表项中本次搜索写入的比例
+     */
+    public int getUsagePermille() {
+        int sample = Math.min(1000, mask + 1);
+        int used = 0;
+        for (int j = 0; j < sample; j++) {
+            long data = entries[j * 2 + 1];
+            if (data != 0 && age(data) == age) used++;
+        }
+        return used * 1000 / sample;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("tt %d entries, probes %d, hit %.1f%%, collisions %d, stores %d, overwrites %d, usage %d‰",
+                getCapacity(), getProbes(), getHitRate() * 100, getCollisions(), getStores(), getOverwrites(),
+                getUsagePermille());
+    }
+
+    public static int move(long data) {
+        return (int) data;
+    }
+
+    public static int score(long data) {
+        return (short) (data >>> 32);
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> 48) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> 56) & 0x3;
+    }
+
+    private static int age(long data) {
+        return (int) (data >>> 58) & AGE_MASK;
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int age) {
+        return (move & 0xFFFFFFFFL)
+                | ((score & 0xFFFFL) << 32)
+                | ((long) Math.min(depth, 0xFF) << 48)
+                | ((long) bound << 56)
+                | ((long) age << 58);
+    }
+
+    private int index(long key) {
+        return ((int) key & mask) << 1;
+    }
+}
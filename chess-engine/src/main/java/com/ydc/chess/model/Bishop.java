@@ -0,0 +1,7 @@
+package com.ydc.chess.model;
+
+public class Bishop extends Piece {
+    Bishop(String name, Color color) {
+        super(name, color, PieceType.BISHOP);
+    }
+}
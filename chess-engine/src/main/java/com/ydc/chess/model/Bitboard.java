@@ -0,0 +1,90 @@
+package com.ydc.chess.model;
+
+/**
+ * 90 格棋盘的位棋盘工具。
+ * 格子编号 sq = 行 * 9 + 列（0-89）；一个位棋盘用两个 long 表示：
+ * lo 存放 0-63 号格，hi 的低 26 位存放 64-89 号格。
+ * 所有方法均为静态、无分配，可直接在热点路径中使用。
+ */
+public final class Bitboard {
+    public static final int ROWS = 10;
+    public static final int COLS = 9;
+    public static final int SQUARES = ROWS * COLS;
+
+    // hi 段有效位
+    public static final long HI_MASK = (1L << (SQUARES - 64)) - 1;
+
+    // 每行 / 每列的掩码
+    private static final long[] RANK_LO = new long[ROWS];
+    private static final long[] RANK_HI = new long[ROWS];
+    private static final long[] FILE_LO = new long[COLS];
+    private static final long[] FILE_HI = new long[COLS];
+
+    // 同行或同列两格之间（不含两端）的掩码，下标 a * 90 + b
+    private static final long[] BETWEEN_LO = new long[SQUARES * SQUARES];
+    private static final long[] BETWEEN_HI = new long[SQUARES * SQUARES];
+
+    static {
+        for (int sq = 0; sq < SQUARES; sq++) {
+            int r = sq / COLS, c = sq % COLS;
+            RANK_LO[r] |= bitLo(sq);
+            RANK_HI[r] |= bitHi(sq);
+            FILE_LO[c] |= bitLo(sq);
+            FILE_HI[c] |= bitHi(sq);
+        }
+        for (int a = 0; a < SQUARES; a++) {
+            for (int b = 0; b < SQUARES; b++) {
+                int ar = a / COLS, ac = a % COLS, br = b / COLS, bc = b % COLS;
+                if (a == b || (ar != br && ac != bc)) continue;
+                int step = (ar == br) ? (b > a ? 1 : -1) : (b > a ? COLS : -COLS);
+                for (int s = a + step; s != b; s += step) {
+                    BETWEEN_LO[a * SQUARES + b] |= bitLo(s);
+                    BETWEEN_HI[a * SQUARES + b] |= bitHi(s);
+                }
+            }
+        }
+    }
+
+    private Bitboard() {
+    }
+
+    public static int square(int row, int col) {
+        return row * COLS + col;
+    }
+
+    public static long bitLo(int sq) {
+        return sq < 64 ? 1L << sq : 0L;
+    }
+
+    public static long bitHi(int sq) {
+        return sq < 64 ? 0L : 1L << (sq - 64);
+    }
+
+    public static boolean test(long lo, long hi, int sq) {
+        return sq < 64 ? (lo >>> sq & 1L) != 0 : (hi >>> (sq - 64) & 1L) != 0;
+    }
+
+    public static int count(long lo, long hi) {
+        return Long.bitCount(lo) + Long.bitCount(hi);
+    }
+
+    /**
+     * 编号最小的置位格子，空位棋盘返回 -1
+     */
+    public static int first(long lo, long hi) {
+        if (lo != 0) return Long.numberOfTrailingZeros(lo);
+        if (hi != 0) return 64 + Long.numberOfTrailingZeros(hi);
+        return -1;
+    }
+
+    public static long rankLo(int row) { return RANK_LO[row]; }
+    public static long rankHi(int row) { return RANK_HI[row]; }
+    public static long fileLo(int col) { return FILE_LO[col]; }
+    public static long fileHi(int col) { return FILE_HI[col]; }
+
+    /**
+     * a、b 两格之间的掩码；不同行也不同列时为空
+     */
+    public static long betweenLo(int a, int b) { return BETWEEN_LO[a * SQUARES + b]; }
+    public static long betweenHi(int a, int b) { return BETWEEN_HI[a * SQUARES + b]; }
+}
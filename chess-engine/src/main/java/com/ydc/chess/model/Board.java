@@ -0,0 +1,625 @@
+
+package com.ydc.chess.model;
+
+import com.ydc.chess.rule.Attacks;
+import com.ydc.chess.rule.Pins;
+import com.ydc.chess.rule.RuleFactory;
+import java.util.Arrays;
+
+/**
+ * Board类：管理棋盘数据结构与棋子在棋盘上的位置，负责棋子布局与应用／回退走法。
+ */
+public class Board {
+
+    /**
+     * 规则判断使用的棋盘表示：GRID 为二维数组（车炮射线查 RayTables），MAILBOX 为带哨兵边框的一维数组（见 Mailbox）。
+     * 两种表示始终同步维护，切换只影响车、炮、马、象规则走哪条路径。
+     * 默认 GRID：实测两者相差不大，mailbox 略慢（对比见 benchmarks 中的 RuleBenchmark）。
+     */
+    public enum Backing {
+        GRID,
+        MAILBOX
+    }
+
+    public enum checkStatus {
+        NONE,
+        BEFORE_CHECK,
+        AFTER_CHECK,
+        FACE_TO_FACE  // 将帅面对面
+    }//被将军的状态
+    private checkStatus checkstatus;
+    // grid[10][9]: grid[row][col]
+    private Piece[][] grid = new Piece[10][9];
+    // mailbox：与 grid 同步维护，内容编码见 Mailbox
+    private byte[] mailbox = Mailbox.newBoard();
+    private Backing backing = Backing.GRID;
+    // 位棋盘：与 grid 同步维护，下标为棋子编号（见 PieceType），lo/hi 含义见 Bitboard
+    private long[] pieceLo = new long[PieceType.CODE_COUNT];
+    private long[] pieceHi = new long[PieceType.CODE_COUNT];
+    // 按颜色（RED=0, BLACK=1）汇总的占用
+    private long[] colorLo = new long[2];
+    private long[] colorHi = new long[2];
+    // 按行 / 按列的占用位：rankOcc[row] 第 col 位、fileOcc[col] 第 row 位，供 RayTables 查车炮射线
+    private int[] rankOcc = new int[Bitboard.ROWS];
+    private int[] fileOcc = new int[Bitboard.COLS];
+    // Zobrist 局面键：随 put() 与回合切换增量更新
+    private long hash;
+    // 评估项（见 PieceSquareTables）：中局分、残局分（红方减黑方）与阶段值，随 put() 增量更新
+    private int mgScore;
+    private int egScore;
+    private int phase;
+    // 每方棋子列表：pieceSquares[color][0..pieceCount-1] 为棋子所在格，
+    // listIndex[sq] 为该格在列表中的下标（删除时与末尾交换，O(1)）
+    public static final int MAX_PIECES = 16;
+    private int[][] pieceSquares = new int[2][MAX_PIECES];
+    private int[] pieceCount = new int[2];
+    private int[] listIndex = new int[Bitboard.SQUARES];
+    // 双方将帅所在格，-1 表示不在棋盘上
+    private int[] generalSquare = {-1, -1};
+    // 走棋历史，move / undo 与 makeMove / unmakeMove 共用（后进先出，可以嵌套）：
+    // history[i] 为第 i 步的完整打包走法（见 Moves，含走子与被吃棋子编号），
+    // hashHistory[i] 为走这一步之前的局面键；两数组同步按需扩容
+    private int[] history = new int[128];
+    private long[] hashHistory = new long[128];
+    private int historyCount = 0;
+    // 当前执子方（红先）
+    private Piece.Color currentTurn = Piece.Color.RED;
+
+    // 初始局面
+    public static final String START_FEN = "rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C5C1/9/RNBAKABNR w";
+
+    public Board() {
+        initialize();
+    }
+
+    // 供 cloneBoard 使用：只分配数组，不摆棋子
+    private Board(boolean empty) {
+    }
+
+    /**
+     * 初始化棋盘，将棋子摆回起始位置
+     */
+    public void initialize() {
+        // 黑方在上方（行较小），红方在下方（行较大）
+        loadFen(START_FEN);
+        System.out.println("棋盘已初始化。");
+    }
+
+    /**
+     * 清空棋盘与全部派生状态（位棋盘、哈希、棋子列表、历史），轮到红方
+     */
+    private void clear() {
+        // 清空棋盘
+        for (int r = 0; r < 10; r++) {
+            for (int c = 0; c < 9; c++) {
+                grid[r][c] = null;
+            }
+        }
+        Mailbox.clear(mailbox);
+        Arrays.fill(pieceLo, 0L);
+        Arrays.fill(pieceHi, 0L);
+        Arrays.fill(colorLo, 0L);
+        Arrays.fill(colorHi, 0L);
+        Arrays.fill(rankOcc, 0);
+        Arrays.fill(fileOcc, 0);
+        hash = 0L;
+        mgScore = egScore = phase = 0;
+        Arrays.fill(pieceCount, 0);
+        Arrays.fill(generalSquare, -1);
+        historyCount = 0;
+        checkstatus = checkStatus.NONE;
+        checkedColor = null;
+        currentTurn = Piece.Color.RED;
+    }
+
+    /**
+     * 按 FEN 摆放局面，例如初始局面：
+     * rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C5C1/9/RNBAKABNR w
+     * 第一段从黑方底线（第 0 行）写起；大写为红方，小写为黑方；第二段 w / r 为红方走，b 为黑方走。
+     */
+    public void loadFen(String fen) {
+        clear();
+        String[] parts = fen.trim().split("\\s+");
+        String[] rows = parts[0].split("/");
+        if (rows.length != 10) {
+            throw new IllegalArgumentException("FEN 行数应为 10: " + fen);
+        }
+        for (int r = 0; r < 10; r++) {
+            int c = 0;
+            for (char ch : rows[r].toCharArray()) {
+                if (Character.isDigit(ch)) {
+                    c += ch - '0';
+                } else {
+                    if (c > 8) throw new IllegalArgumentException("FEN 第 " + r + " 行超出 9 列: " + fen);
+                    put(r, c, Piece.of(fenCode(ch)));
+                    c++;
+                }
+            }
+            if (c != 9) {
+                throw new IllegalArgumentException("FEN 第 " + r + " 行不是 9 列: " + fen);
+            }
+        }
+        if (parts.length > 1 && parts[1].equals("b")) {
+            currentTurn = Piece.Color.BLACK;
+            hash ^= Zobrist.SIDE;
+        }
+    }
+
+    /**
+     * 导出当前局面的 FEN（只含棋子与走棋方）
+     */
+    public String toFen() {
+        StringBuilder sb = new StringBuilder();
+        for (int r = 0; r < 10; r++) {
+            int empty = 0;
+            for (int c = 0; c < 9; c++) {
+                Piece p = grid[r][c];
+                if (p == null) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) sb.append(empty);
+                empty = 0;
+                sb.append(PieceType.fenChar(p.getCode()));
+            }
+            if (empty > 0) sb.append(empty);
+            if (r < 9) sb.append('/');
+        }
+        sb.append(currentTurn == Piece.Color.RED ? " w" : " b");
+        return sb.toString();
+    }
+
+    // FEN 字母 -> 棋子编号（兼容 e/h 作为象、马）
+    private static int fenCode(char ch) {
+        int type;
+        switch (Character.toLowerCase(ch)) {
+            case 'k': type = PieceType.GENERAL; break;
+            case 'a': type = PieceType.GUARD; break;
+            case 'b':
+            case 'e': type = PieceType.BISHOP; break;
+            case 'n':
+            case 'h': type = PieceType.KNIGHT; break;
+            case 'r': type = PieceType.CHARIOT; break;
+            case 'c': type = PieceType.CANNON; break;
+            case 'p': type = PieceType.SOLDIER; break;
+            default: throw new IllegalArgumentException("未知的 FEN 棋子: " + ch);
+        }
+        return PieceType.code(type, Character.isUpperCase(ch) ? Piece.Color.RED : Piece.Color.BLACK);
+    }
+
+    /**
+     * 写入格子并同步位棋盘（所有对 grid 的修改都应经过此方法）
+     */
+    private void put(int r, int c, Piece piece) {
+        int sq = Bitboard.square(r, c);
+        Piece old = grid[r][c];
+        if (old != null) {
+            toggleBits(old.getCode(), sq);
+            removeFromList(old, sq);
+            mgScore -= PieceSquareTables.mg(old.getCode(), sq);
+            egScore -= PieceSquareTables.eg(old.getCode(), sq);
+            phase -= PieceSquareTables.phase(old.getCode());
+        }
+        grid[r][c] = piece;
+        mailbox[Mailbox.index(r, c)] = Mailbox.encode(piece);
+        if ((old == null) != (piece == null)) {
+            rankOcc[r] ^= 1 << c;
+            fileOcc[c] ^= 1 << r;
+        }
+        if (piece != null) {
+            toggleBits(piece.getCode(), sq);
+            addToList(piece, sq);
+            mgScore += PieceSquareTables.mg(piece.getCode(), sq);
+            egScore += PieceSquareTables.eg(piece.getCode(), sq);
+            phase += PieceSquareTables.phase(piece.getCode());
+        }
+    }
+
+    private void addToList(Piece piece, int sq) {
+        int color = piece.getColor().ordinal();
+        int n = pieceCount[color];
+        if (n == MAX_PIECES) {
+            throw new IllegalStateException("棋子数量超出上限: " + piece.getColor());
+        }
+        pieceSquares[color][n] = sq;
+        listIndex[sq] = n;
+        pieceCount[color] = n + 1;
+        if (piece.getType() == PieceType.GENERAL) generalSquare[color] = sq;
+    }
+
+    private void removeFromList(Piece piece, int sq) {
+        int color = piece.getColor().ordinal();
+        int last = --pieceCount[color];
+        int idx = listIndex[sq];
+        int moved = pieceSquares[color][last];
+        pieceSquares[color][idx] = moved;
+        listIndex[moved] = idx;
+        if (piece.getType() == PieceType.GENERAL && generalSquare[color] == sq) generalSquare[color] = -1;
+    }
+
+    private void toggleBits(int code, int sq) {
+        long lo = Bitboard.bitLo(sq), hi = Bitboard.bitHi(sq);
+        int color = PieceType.colorOf(code).ordinal();
+        pieceLo[code] ^= lo;
+        pieceHi[code] ^= hi;
+        colorLo[color] ^= lo;
+        colorHi[color] ^= hi;
+        hash ^= Zobrist.pieceSquare(code, sq);
+    }
+
+    public Piece getPiece(Pos pos) {
+        if (pos == null) return null;
+        if (pos.getX() < 0 || pos.getX() > 8 || pos.getY() < 0 || pos.getY() > 9) {
+            return null;
+        }
+        return grid[pos.getY()][pos.getX()];
+    }
+
+    public Piece getPiece(int sq) {
+        return grid[sq / Bitboard.COLS][sq % Bitboard.COLS];
+    }
+
+    public Piece[][] getGrid() {
+        return grid;
+    }
+
+    /**
+     * mailbox 表示（只读，修改请走 move / makeMove）
+     */
+    public byte[] getMailbox() {
+        return mailbox;
+    }
+
+    public Backing getBacking() {
+        return backing;
+    }
+
+    public void setBacking(Backing backing) {
+        this.backing = backing;
+    }
+
+    public Piece.Color getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public checkStatus getCheckStatus() { return checkstatus; }
+
+    /**
+     * 当前局面的 64 位 Zobrist 键（棋子位置 + 走棋方）
+     */
+    public long getHash() { return hash; }
+
+    /**
+     * 增量维护的评估项（见 PieceSquareTables）：中局分、残局分均为红方减黑方
+     */
+    public int getMgScore() { return mgScore; }
+    public int getEgScore() { return egScore; }
+    public int getPhase() { return phase; }
+
+    public void setPiece(Pos pos, Piece piece) {
+        if (pos == null) return;
+        if (pos.getX() >= 0 && pos.getX() <= 8 && pos.getY() >= 0 && pos.getY() <= 9) {
+            put(pos.getY(), pos.getX(), piece);
+        }
+    }
+
+    // ================= 棋子列表查询 =================
+
+    /**
+     * color 方将帅所在格（sq = 行 * 9 + 列），不在棋盘上返回 -1
+     */
+    public int getGeneralSquare(Piece.Color color) {
+        return generalSquare[color.ordinal()];
+    }
+
+    public int getPieceCount(Piece.Color color) {
+        return pieceCount[color.ordinal()];
+    }
+
+    /**
+     * color 方第 i 个棋子所在格；走子会调整列表顺序，遍历期间需要走子时请先用 copyPieceSquares 取快照
+     */
+    public int getPieceSquare(Piece.Color color, int i) {
+        return pieceSquares[color.ordinal()][i];
+    }
+
+    /**
+     * 把 color 方全部棋子所在格复制到 out（长度至少 MAX_PIECES），返回个数
+     */
+    public int copyPieceSquares(Piece.Color color, int[] out) {
+        int n = pieceCount[color.ordinal()];
+        System.arraycopy(pieceSquares[color.ordinal()], 0, out, 0, n);
+        return n;
+    }
+
+    // ================= 位棋盘查询 =================
+
+    public long getPieceBitsLo(int code) { return pieceLo[code]; }
+    public long getPieceBitsHi(int code) { return pieceHi[code]; }
+
+    public long getColorBitsLo(Piece.Color color) { return colorLo[color.ordinal()]; }
+    public long getColorBitsHi(Piece.Color color) { return colorHi[color.ordinal()]; }
+
+    public int getRankOccupancy(int row) { return rankOcc[row]; }
+    public int getFileOccupancy(int col) { return fileOcc[col]; }
+
+    public long getOccupiedLo() { return colorLo[0] | colorLo[1]; }
+    public long getOccupiedHi() { return colorHi[0] | colorHi[1]; }
+
+    public boolean isOccupied(int sq) {
+        return Bitboard.test(getOccupiedLo(), getOccupiedHi(), sq);
+    }
+
+    /**
+     * 同行或同列两格之间的棋子数，不在同一直线上返回 -1
+     */
+    public int countBetween(int a, int b) {
+        if (a / Bitboard.COLS != b / Bitboard.COLS && a % Bitboard.COLS != b % Bitboard.COLS) return -1;
+        return Bitboard.count(getOccupiedLo() & Bitboard.betweenLo(a, b),
+                getOccupiedHi() & Bitboard.betweenHi(a, b));
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r <= 9 && c >= 0 && c <= 8;
+    }
+
+    /**
+     * 使用坐标移动（行,列）
+     * fr: 起始行, fc: 起始列, tr: 目标行, tc: 目标列
+     */
+    public boolean move(int fr, int fc, int tr, int tc) {
+        checkstatus = checkStatus.NONE;
+        if (!inBounds(fr, fc) || !inBounds(tr, tc)) return false;
+        Piece from = grid[fr][fc];
+        if (from == null) return false;
+        if (from.getColor() != currentTurn) return false;
+        Piece to = grid[tr][tc];
+        if (to != null && to.getColor() == from.getColor()) return false;
+        if (isInCheck(currentTurn)) {
+            checkstatus = checkStatus.BEFORE_CHECK;
+        }
+
+        // 基本走法校验
+        if (!RuleFactory.of(from).isValidMove(this, fr, fc, tr, tc)) return false;
+
+        // 模拟走子
+        Piece captured = grid[tr][tc];
+        long hashBefore = hash;
+        // 牵制分析能证明走后不会自将（也不会对脸）时，不必再走后检测
+        boolean safe = checkstatus != checkStatus.BEFORE_CHECK
+                && Pins.isSafeMove(this, Bitboard.square(fr, fc), Bitboard.square(tr, tc));
+        put(fr, fc, null);
+        put(tr, tc, from);
+
+        // 检查将帅面对面（移动后是否会导致将帅面对面）
+        // 需先于自将检查：将军检测把对脸也算作被将，先判断才能给出准确提示
+        if (!safe && isGeneralsFaceToFace()) {
+            // 恢复
+            put(tr, tc, captured);
+            put(fr, fc, from);
+            checkstatus = checkStatus.FACE_TO_FACE;
+            return false;
+        }
+
+        // 检查自将（走后本方是否被将军）
+        if (!safe && isInCheck(currentTurn)) {
+            // 恢复
+            put(tr, tc, captured);
+            put(fr, fc, from);
+            if (checkstatus != checkStatus.BEFORE_CHECK)
+              checkstatus = checkStatus.AFTER_CHECK;
+            return false;
+        }
+
+        commit(fr, fc, tr, tc, from, captured, hashBefore);
+        return true;
+
+    }
+
+    /**
+     * 落子已知合法的走法（如来自 LegalMoveCache 的走法），跳过规则与自将校验；
+     * 其余效果（将军标记、走棋历史、切换回合）与 move 相同
+     */
+    public void playLegalMove(int from, int to) {
+        checkstatus = checkStatus.NONE;
+        int fr = from / Bitboard.COLS, fc = from % Bitboard.COLS;
+        int tr = to / Bitboard.COLS, tc = to % Bitboard.COLS;
+        Piece mover = grid[fr][fc];
+        Piece captured = grid[tr][tc];
+        long hashBefore = hash;
+        put(fr, fc, null);
+        put(tr, tc, mover);
+        commit(fr, fc, tr, tc, mover, captured, hashBefore);
+    }
+
+    // 棋子已经落下：记录将军状态与历史，切换回合
+    private void commit(int fr, int fc, int tr, int tc, Piece from, Piece captured, long hashBefore) {
+        // 判断是否将军（走子方将对方军）
+        Piece.Color enemy =
+                (currentTurn == Piece.Color.RED)
+                        ? Piece.Color.BLACK
+                        : Piece.Color.RED;
+
+        if (isInCheck(enemy)) {
+            checkedColor = enemy;
+        } else {
+            checkedColor = null;
+        }
+
+        // 记录历史：完整打包走法（含走子、被吃棋子与将军标志）
+        int packed = Moves.of(Bitboard.square(fr, fc), Bitboard.square(tr, tc),
+                from.getCode(), captured == null ? -1 : captured.getCode());
+        if (checkedColor != null) packed = Moves.withFlags(packed, Moves.FLAG_CHECK);
+        pushHistory(packed, hashBefore);
+
+// 切换回合
+        currentTurn = enemy;
+        hash ^= Zobrist.SIDE;
+    }
+
+    // ================= 搜索用走子接口 =================
+
+    /**
+     * 执行打包走法（见 Moves），不做任何合法性校验，也不计算将军标记；
+     * 更新棋盘、位棋盘、棋子列表、哈希与走棋方，并压入走棋历史（被吃棋子以棋盘为准）。
+     * 须用 unmakeMove 按后进先出撤销；调用方可在走后用 isincheck(走子方) 过滤自将走法。
+     */
+    public void makeMove(int move) {
+        int from = Moves.from(move), to = Moves.to(move);
+        Piece mover = grid[from / Bitboard.COLS][from % Bitboard.COLS];
+        Piece captured = grid[to / Bitboard.COLS][to % Bitboard.COLS];
+        pushHistory(Moves.of(from, to, mover.getCode(), captured == null ? -1 : captured.getCode()), hash);
+        put(from / Bitboard.COLS, from % Bitboard.COLS, null);
+        put(to / Bitboard.COLS, to % Bitboard.COLS, mover);
+        currentTurn = (currentTurn == Piece.Color.RED) ? Piece.Color.BLACK : Piece.Color.RED;
+        hash ^= Zobrist.SIDE;
+    }
+
+    /**
+     * 撤销最近一次 makeMove（与 undo 相同，只是不返回结果）
+     */
+    public void unmakeMove() {
+        popHistory();
+    }
+
+    private void pushHistory(int packed, long hashBefore) {
+        if (historyCount == history.length) {
+            history = Arrays.copyOf(history, historyCount * 2);
+            hashHistory = Arrays.copyOf(hashHistory, historyCount * 2);
+        }
+        history[historyCount] = packed;
+        hashHistory[historyCount] = hashBefore;
+        historyCount++;
+    }
+
+    // 弹出最后一步并还原棋盘：被吃的棋子由打包走法里的编号取回
+    private void popHistory() {
+        int last = history[--historyCount];
+        int from = Moves.from(last), to = Moves.to(last);
+        int captured = Moves.captured(last);
+
+        // 将移动回去：先把被吃的棋子放回终点，再把走子放回起点
+        Piece moved = grid[to / Bitboard.COLS][to % Bitboard.COLS];
+        put(to / Bitboard.COLS, to % Bitboard.COLS, captured < 0 ? null : Piece.of(captured));
+        put(from / Bitboard.COLS, from % Bitboard.COLS, moved);
+
+        // 切换回合
+        currentTurn = (currentTurn == Piece.Color.RED) ? Piece.Color.BLACK : Piece.Color.RED;
+        hash ^= Zobrist.SIDE;
+    }
+
+    public boolean move(Pos from, Pos to) {
+        if (from == null || to == null) return false;
+        return move(from.getY(), from.getX(), to.getY(), to.getX());
+    }
+
+    // 记录当前是否有一方被将军
+    private Piece.Color checkedColor = null;
+    public Piece.Color getCheckedColor() {
+        return checkedColor;
+    }
+    /**
+     * 克隆棋盘（只拷贝棋盘布局与派生状态，不拷贝历史）。
+     * 棋子是不可变的共享实例，格子直接整行复制即可。
+     */
+    public Board cloneBoard() {
+        Board copy = new Board(true);
+
+        for (int r = 0; r < 10; r++) {
+            System.arraycopy(this.grid[r], 0, copy.grid[r], 0, 9);
+        }
+        System.arraycopy(this.mailbox, 0, copy.mailbox, 0, Mailbox.SIZE);
+        copy.backing = this.backing;
+
+        System.arraycopy(this.pieceLo, 0, copy.pieceLo, 0, PieceType.CODE_COUNT);
+        System.arraycopy(this.pieceHi, 0, copy.pieceHi, 0, PieceType.CODE_COUNT);
+        System.arraycopy(this.colorLo, 0, copy.colorLo, 0, 2);
+        System.arraycopy(this.colorHi, 0, copy.colorHi, 0, 2);
+        System.arraycopy(this.rankOcc, 0, copy.rankOcc, 0, Bitboard.ROWS);
+        System.arraycopy(this.fileOcc, 0, copy.fileOcc, 0, Bitboard.COLS);
+        copy.hash = this.hash;
+        copy.mgScore = this.mgScore;
+        copy.egScore = this.egScore;
+        copy.phase = this.phase;
+        for (int color = 0; color < 2; color++) {
+            System.arraycopy(this.pieceSquares[color], 0, copy.pieceSquares[color], 0, pieceCount[color]);
+        }
+        System.arraycopy(this.pieceCount, 0, copy.pieceCount, 0, 2);
+        System.arraycopy(this.listIndex, 0, copy.listIndex, 0, Bitboard.SQUARES);
+        System.arraycopy(this.generalSquare, 0, copy.generalSquare, 0, 2);
+
+        // 拷贝状态（走棋历史不拷贝，模拟棋盘无需）
+        copy.currentTurn = this.currentTurn;
+        copy.checkstatus = this.checkstatus;
+        copy.checkedColor = this.checkedColor;
+
+        return copy;
+    }
+
+
+    /**
+     * 判断 color 方是否被将（从将的位置反向查找车、炮、马、兵及对脸的将）
+     */
+    private boolean isInCheck(Piece.Color color) {
+        return Attacks.isInCheck(this, color);
+    }
+
+    public boolean isincheck(Piece.Color color) {
+        return isInCheck(color);
+    }
+    
+    /**
+     * 检查将帅是否面对面（在同一列且中间没有棋子）
+     */
+    private boolean isGeneralsFaceToFace() {
+        int redSq = generalSquare[Piece.Color.RED.ordinal()];
+        int blackSq = generalSquare[Piece.Color.BLACK.ordinal()];
+        if (redSq < 0 || blackSq < 0) {
+            return false;
+        }
+
+        // 检查是否在同一列
+        if (redSq % Bitboard.COLS != blackSq % Bitboard.COLS) {
+            return false;
+        }
+
+        // 两个将在同一列且中间没有棋子（位棋盘求交计数），面对面
+        return countBetween(redSq, blackSq) == 0;
+    }
+    
+    // 强制移动，不进行合法性判断
+
+    public boolean undo() {
+        if (historyCount == 0) return false;
+        popHistory();
+        return true;
+    }
+
+    /**
+     * 已走的步数（历史栈深度，含未撤销的 makeMove）
+     */
+    public int getMoveCount() {
+        return historyCount;
+    }
+
+    /**
+     * 第 i 步的完整打包走法（见 Moves），0 为第一步
+     */
+    public int getMove(int i) {
+        return history[i];
+    }
+
+    /**
+     * 第 i 步走之前的局面键
+     */
+    public long getHashBefore(int i) {
+        return hashHistory[i];
+    }
+
+    /**
+     * 走棋历史的快照（打包走法，长度即步数），供保存棋谱、复盘使用
+     */
+    public int[] getHistorySnapshot() {
+        return Arrays.copyOf(history, historyCount);
+    }
+}
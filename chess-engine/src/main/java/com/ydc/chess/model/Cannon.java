@@ -0,0 +1,10 @@
+package com.ydc.chess.model;
+
+/**
+ * 炮/砲
+ */
+public class Cannon extends Piece {
+    Cannon(String name, Color color) {
+        super(name, color, PieceType.CANNON);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.ydc.chess.model;
+
+/**
+ * 车/俥
+ */
+public class Chariot extends Piece {
+    Chariot(String name, Color color) {
+        super(name, color, PieceType.CHARIOT);
+    }
+}
\ No newline at end of file
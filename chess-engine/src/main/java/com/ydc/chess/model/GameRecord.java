@@ -12,8 +12,19 @@ public class GameRecord implements Serializable {
     private static final long serialVersionUID = 1L;
     
     public enum GameType {
-        LOCAL,      // 本地对战
-        NETWORK     // 网络对战
+        LOCAL("本地"),      // 本地对战
+        NETWORK("网络"),    // 网络对战
+        AI("人机");         // 人机对战
+
+        private final String displayName;
+
+        GameType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
     }
     
     private String id;                  // 记录ID（时间戳）
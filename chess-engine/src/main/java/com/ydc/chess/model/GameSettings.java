@@ -17,6 +17,14 @@ public class GameSettings {
     private int timerMinutes = 30;
     private String playerName = "玩家";
     private String theme = "经典";
+    // 人机对战：电脑每步的搜索深度上限、思考时间（秒）、节点数上限（0 为不限）
+    private int aiSearchDepth = 12;
+    private int aiThinkSeconds = 3;
+    private long aiMaxNodes = 0;
+    // 电脑搜索用的置换表大小（MB）
+    private int hashSizeMb = 32;
+    // 电脑搜索线程数，默认使用全部处理器
+    private int aiThreads = Runtime.getRuntime().availableProcessors();
     
     private static GameSettings instance;
     
@@ -47,6 +55,12 @@ public class GameSettings {
                 timerMinutes = Integer.parseInt(props.getProperty("timerMinutes", "30"));
                 playerName = props.getProperty("playerName", "玩家");
                 theme = props.getProperty("theme", "经典");
+                aiSearchDepth = Integer.parseInt(props.getProperty("aiSearchDepth", "12"));
+                aiThinkSeconds = Integer.parseInt(props.getProperty("aiThinkSeconds", "3"));
+                aiMaxNodes = Long.parseLong(props.getProperty("aiMaxNodes", "0"));
+                hashSizeMb = Integer.parseInt(props.getProperty("hashSizeMb", "32"));
+                aiThreads = Integer.parseInt(props.getProperty("aiThreads",
+                        String.valueOf(Runtime.getRuntime().availableProcessors())));
             } catch (IOException e) {
                 System.err.println("加载设置失败: " + e.getMessage());
             }
@@ -64,6 +78,11 @@ public class GameSettings {
         props.setProperty("timerMinutes", String.valueOf(timerMinutes));
         props.setProperty("playerName", playerName);
         props.setProperty("theme", theme);
+        props.setProperty("aiSearchDepth", String.valueOf(aiSearchDepth));
+        props.setProperty("aiThinkSeconds", String.valueOf(aiThinkSeconds));
+        props.setProperty("aiMaxNodes", String.valueOf(aiMaxNodes));
+        props.setProperty("hashSizeMb", String.valueOf(hashSizeMb));
+        props.setProperty("aiThreads", String.valueOf(aiThreads));
         
         try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
             props.store(fos, "游戏设置");
@@ -120,5 +139,45 @@ public class GameSettings {
     public void setTheme(String theme) {
         this.theme = theme;
     }
+    
+    public int getAiSearchDepth() {
+        return aiSearchDepth;
+    }
+    
+    public void setAiSearchDepth(int aiSearchDepth) {
+        this.aiSearchDepth = aiSearchDepth;
+    }
+    
+    public int getAiThinkSeconds() {
+        return aiThinkSeconds;
+    }
+    
+    public void setAiThinkSeconds(int aiThinkSeconds) {
+        this.aiThinkSeconds = aiThinkSeconds;
+    }
+    
+    public long getAiMaxNodes() {
+        return aiMaxNodes;
+    }
+    
+    public void setAiMaxNodes(long aiMaxNodes) {
+        this.aiMaxNodes = aiMaxNodes;
+    }
+    
+    public int getHashSizeMb() {
+        return hashSizeMb;
+    }
+    
+    public void setHashSizeMb(int hashSizeMb) {
+        this.hashSizeMb = hashSizeMb;
+    }
+    
+    public int getAiThreads() {
+        return aiThreads;
+    }
+    
+    public void setAiThreads(int aiThreads) {
+        this.aiThreads = aiThreads;
+    }
 }
 
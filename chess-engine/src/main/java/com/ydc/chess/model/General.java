@@ -0,0 +1,10 @@
+package com.ydc.chess.model;
+
+/**
+ * 将/帅
+ */
+public class General extends Piece {
+    General(String name, Color color) {
+        super(name, color, PieceType.GENERAL);
+    }
+}
\ No newline at end of file
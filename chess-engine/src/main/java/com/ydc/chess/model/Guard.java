@@ -0,0 +1,7 @@
+package com.ydc.chess.model;
+
+public class Guard extends Piece {
+    Guard(String name, Color color) {
+        super(name, color, PieceType.GUARD);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ydc.chess.model;
+
+public class Knight extends Piece{
+    Knight(String name, Color color) {
+        super(name, color, PieceType.KNIGHT);
+    }
+}
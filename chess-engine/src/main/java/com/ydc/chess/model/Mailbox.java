@@ -0,0 +1,80 @@
+package com.ydc.chess.model;
+
+import java.util.Arrays;
+
+/**
+ * 带哨兵边框的一维棋盘（mailbox）。
+ * 10 x 9 的棋盘嵌在 14 x 11 的 byte 数组中：上下各留 2 行、左右各留 1 列，
+ * 马、象最远跳 2 格，越界一定落在边框上，走子、沿线扫描时无需判断越界。
+ * 左右只留 1 列即可：向左跳 2 列会落到上一行最右侧的边框列，反之亦然。
+ * 格子内容：EMPTY 空、OFFBOARD 边框、其余为棋子编号 + 1（见 PieceType）。
+ */
+public final class Mailbox {
+    public static final int WIDTH = 11;
+    public static final int HEIGHT = 14;
+    public static final int SIZE = WIDTH * HEIGHT;
+
+    public static final byte EMPTY = 0;
+    public static final byte OFFBOARD = -1;
+
+    // 方向偏移：上、下、左、右
+    public static final int[] ORTHOGONAL = {-WIDTH, WIDTH, -1, 1};
+    // 斜向一格
+    public static final int[] DIAGONAL = {-WIDTH - 1, -WIDTH + 1, WIDTH - 1, WIDTH + 1};
+
+    // 马：以两格之差（终点 - 起点 + KNIGHT_RANGE）为下标，值为马腿偏移，0 表示不是马步
+    private static final int KNIGHT_RANGE = 2 * WIDTH + 2;
+    private static final int[] KNIGHT_LEG = new int[2 * KNIGHT_RANGE + 1];
+
+    // 空的 mailbox：棋盘内为 EMPTY，边框为 OFFBOARD
+    private static final byte[] EMPTY_BOARD = new byte[SIZE];
+
+    static {
+        Arrays.fill(EMPTY_BOARD, OFFBOARD);
+        for (int sq = 0; sq < Bitboard.SQUARES; sq++) {
+            EMPTY_BOARD[index(sq)] = EMPTY;
+        }
+        for (int dr = -1; dr <= 1; dr += 2) {
+            for (int dc = -1; dc <= 1; dc += 2) {
+                // 纵向日字：马腿在纵向一格；横向日字：马腿在横向一格
+                KNIGHT_LEG[2 * dr * WIDTH + dc + KNIGHT_RANGE] = dr * WIDTH;
+                KNIGHT_LEG[dr * WIDTH + 2 * dc + KNIGHT_RANGE] = dc;
+            }
+        }
+    }
+
+    private Mailbox() {
+    }
+
+    public static int index(int row, int col) {
+        return (row + 2) * WIDTH + (col + 1);
+    }
+
+    public static int index(int sq) {
+        return index(sq / Bitboard.COLS, sq % Bitboard.COLS);
+    }
+
+    public static byte[] newBoard() {
+        return EMPTY_BOARD.clone();
+    }
+
+    /**
+     * 把 board 恢复为空棋盘
+     */
+    public static void clear(byte[] board) {
+        System.arraycopy(EMPTY_BOARD, 0, board, 0, SIZE);
+    }
+
+    public static byte encode(Piece piece) {
+        return piece == null ? EMPTY : (byte) (piece.getCode() + 1);
+    }
+
+    /**
+     * 从 from 到 to（均为 mailbox 下标）的马腿偏移，不是马步时返回 0
+     */
+    public static int knightLeg(int from, int to) {
+        int delta = to - from;
+        if (delta < -KNIGHT_RANGE || delta > KNIGHT_RANGE) return 0;
+        return KNIGHT_LEG[delta + KNIGHT_RANGE];
+    }
+}
@@ -14,6 +14,15 @@ public class Move { // 必须是 public class Move
         this.capturedPiece = capturedPiece;
     }
 
+    /**
+     * 由打包走法（见 Moves）转换，供界面等边界使用
+     */
+    public static Move of(int move) {
+        int captured = Moves.captured(move);
+        return new Move(Square.toPos(Moves.from(move)), Square.toPos(Moves.to(move)),
+                captured < 0 ? null : Piece.of(captured));
+    }
+
     public Pos getFromPos() {
         return fromPos;
     }
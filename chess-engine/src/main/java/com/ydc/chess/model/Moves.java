@@ -0,0 +1,81 @@
+package com.ydc.chess.model;
+
+/**
+ * 打包走法：用一个 int 表示一步棋，避免为每次试走创建 Pos / Move 对象。
+ * 位布局（格子编号 sq = 行 * 9 + 列，棋子编号见 PieceType）：
+ *   bit 0-6   起点格
+ *   bit 7-13  终点格
+ *   bit 14-17 走子的棋子编号
+ *   bit 18-21 被吃棋子编号 + 1（0 表示未吃子）
+ *   bit 22-29 标志位（FLAG_*）
+ * 只含起点、终点的走法（of(from, to)）同样可用于 Board.makeMove，棋子信息以棋盘为准。
+ */
+public final class Moves {
+    public static final int NONE = 0;
+
+    // 走后对方被将军
+    public static final int FLAG_CHECK = 1;
+
+    private static final int PIECE_SHIFT = 14;
+    private static final int CAPTURED_SHIFT = 18;
+    private static final int FLAGS_SHIFT = 22;
+
+    private Moves() {
+    }
+
+    public static int of(int from, int to) {
+        return from | (to << 7);
+    }
+
+    /**
+     * 完整走法；captured 为 -1 表示未吃子
+     */
+    public static int of(int from, int to, int piece, int captured) {
+        return from | (to << 7) | (piece << PIECE_SHIFT) | ((captured + 1) << CAPTURED_SHIFT);
+    }
+
+    public static int from(int move) {
+        return move & 0x7F;
+    }
+
+    public static int to(int move) {
+        return (move >>> 7) & 0x7F;
+    }
+
+    /**
+     * 走子的棋子编号（仅对完整走法有意义）
+     */
+    public static int piece(int move) {
+        return (move >>> PIECE_SHIFT) & 0xF;
+    }
+
+    /**
+     * 被吃棋子编号，未吃子返回 -1
+     */
+    public static int captured(int move) {
+        return ((move >>> CAPTURED_SHIFT) & 0xF) - 1;
+    }
+
+    public static boolean isCapture(int move) {
+        return ((move >>> CAPTURED_SHIFT) & 0xF) != 0;
+    }
+
+    public static int flags(int move) {
+        return (move >>> FLAGS_SHIFT) & 0xFF;
+    }
+
+    public static int withFlags(int move, int flags) {
+        return move | (flags << FLAGS_SHIFT);
+    }
+
+    /**
+     * ICCS 坐标记法，如 h2e2：列 a-i 从左到右，行 0-9 从红方底线数起
+     */
+    public static String toIccs(int move) {
+        return square(from(move)) + square(to(move));
+    }
+
+    private static String square(int sq) {
+        return "" + (char) ('a' + sq % Bitboard.COLS) + (Bitboard.ROWS - 1 - sq / Bitboard.COLS);
+    }
+}
@@ -0,0 +1,60 @@
+// java
+package com.ydc.chess.model;
+
+/**
+ * 棋子基类（纯数据，不依赖 JavaFX；选中 / 高亮等界面状态由 ui 层维护）。
+ * 棋子不可变、不记录位置（位置只由 Board 的格子决定），14 种棋子各只有一个共享实例，通过 of 获取。
+ */
+public class Piece {
+
+    public enum Color { RED, BLACK }
+    private final String name;
+    private final Color color;
+    // 类型编码（PieceType）与棋子编号，构造时确定，供规则分派和位棋盘按下标访问
+    private final int type;
+    private final int code;
+
+    // 按棋子编号排列的共享实例
+    private static final Piece[] PIECES = {
+            new General("帅", Color.RED), new Guard("仕", Color.RED), new Bishop("相", Color.RED),
+            new Knight("傌", Color.RED), new Chariot("俥", Color.RED), new Cannon("炮", Color.RED),
+            new Soldier("兵", Color.RED),
+            new General("将", Color.BLACK), new Guard("士", Color.BLACK), new Bishop("象", Color.BLACK),
+            new Knight("马", Color.BLACK), new Chariot("車", Color.BLACK), new Cannon("炮", Color.BLACK),
+            new Soldier("卒", Color.BLACK),
+    };
+
+    protected Piece(String name, Color color, int type) {
+        this.name = name;
+        this.color = color;
+        this.type = type;
+        this.code = PieceType.code(type, color);
+    }
+
+    /**
+     * 棋子编号（见 PieceType）对应的共享实例
+     */
+    public static Piece of(int code) {
+        return PIECES[code];
+    }
+
+    public static Piece of(int type, Color color) {
+        return PIECES[PieceType.code(type, color)];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
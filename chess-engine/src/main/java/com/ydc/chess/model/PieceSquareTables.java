@@ -0,0 +1,218 @@
+package com.ydc.chess.model;
+
+/**
+ * 子力 + 位置分表，分中局（mg）与残局（eg）两套，Board 在 put() 中增量累加（红方为正、黑方为负）。
+ * 阶段值由双方剩余的车、马、炮折算，满值 MAX_PHASE 为开局，0 为只剩兵和士象；
+ * 评估时按阶段在两套分数之间线性插值（taper）。
+ * 下面的位置分表从红方视角书写：第 0 行为黑方底线，第 9 行为红方底线；黑方棋子按行上下翻转取值。
+ */
+public final class PieceSquareTables {
+    // 车 2、马 1、炮 1，双方满子 2 × (2×2 + 2 + 2) = 16
+    public static final int MAX_PHASE = 16;
+    private static final int[] PHASE = {0, 0, 0, 1, 2, 1, 0};
+
+    // 按类型编码排列：将 士 象 马 车 炮 兵
+    private static final int[] MATERIAL_MG = {0, 200, 200, 400, 900, 450, 100};
+    private static final int[] MATERIAL_EG = {0, 200, 200, 450, 950, 400, 150};
+
+    // 下列表中的数值乘以 POSITION_WEIGHT 后与子力相加
+    private static final int POSITION_WEIGHT = 3;
+
+    private static final int[][] GENERAL_MG = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, -8, -8, -8, 0, 0, 0},
+            {0, 0, 0, -3, -2, -3, 0, 0, 0},
+            {0, 0, 0, 1, 5, 1, 0, 0, 0},
+    };
+    private static final int[][] GENERAL_EG = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, -2, 0, -2, 0, 0, 0},
+            {0, 0, 0, 0, 3, 0, 0, 0, 0},
+            {0, 0, 0, 0, 2, 0, 0, 0, 0},
+    };
+    private static final int[][] GUARD = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, -2, 0, -2, 0, 0, 0},
+            {0, 0, 0, 0, 6, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+    };
+    private static final int[][] BISHOP = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {-2, 0, 0, 0, 6, 0, 0, 0, -2},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 2, 0, 0, 0, 2, 0, 0},
+    };
+    private static final int[][] KNIGHT = {
+            {4, 8, 16, 12, 4, 12, 16, 8, 4},
+            {4, 10, 28, 16, 8, 16, 28, 10, 4},
+            {12, 14, 16, 20, 18, 20, 16, 14, 12},
+            {8, 24, 18, 24, 20, 24, 18, 24, 8},
+            {6, 16, 14, 18, 16, 18, 14, 16, 6},
+            {4, 12, 16, 14, 12, 14, 16, 12, 4},
+            {2, 6, 8, 6, 10, 6, 8, 6, 2},
+            {4, 2, 8, 8, 4, 8, 8, 2, 4},
+            {0, 2, 4, 4, -2, 4, 4, 2, 0},
+            {0, -4, 0, 0, 0, 0, 0, -4, 0},
+    };
+    private static final int[][] CHARIOT = {
+            {6, 8, 7, 13, 14, 13, 7, 8, 6},
+            {6, 12, 9, 16, 33, 16, 9, 12, 6},
+            {6, 8, 7, 14, 16, 14, 7, 8, 6},
+            {6, 13, 13, 16, 16, 16, 13, 13, 6},
+            {8, 11, 11, 14, 15, 14, 11, 11, 8},
+            {8, 12, 12, 14, 15, 14, 12, 12, 8},
+            {4, 9, 4, 12, 14, 12, 4, 9, 4},
+            {-2, 8, 4, 12, 12, 12, 4, 8, -2},
+            {5, 8, 6, 12, 0, 12, 6, 8, 5},
+            {-6, 6, 4, 12, 0, 12, 4, 6, -6},
+    };
+    private static final int[][] CANNON_MG = {
+            {4, 4, 0, -5, -6, -5, 0, 4, 4},
+            {2, 2, 0, -4, -7, -4, 0, 2, 2},
+            {1, 1, 0, -5, -4, -5, 0, 1, 1},
+            {0, 3, 3, 2, 4, 2, 3, 3, 0},
+            {0, 0, 0, 0, 4, 0, 0, 0, 0},
+            {-1, 0, 3, 0, 4, 0, 3, 0, -1},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {1, 0, 4, 3, 5, 3, 4, 0, 1},
+            {0, 1, 2, 2, 2, 2, 2, 1, 0},
+            {0, 0, 1, 3, 3, 3, 1, 0, 0},
+    };
+    // 残局的炮靠炮架，守在己方一侧更有用
+    private static final int[][] CANNON_EG = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 2, 0, 0, 0, 0},
+            {0, 0, 0, 0, 2, 0, 0, 0, 0},
+            {0, 0, 0, 0, 2, 0, 0, 0, 0},
+            {0, 0, 0, 0, 2, 0, 0, 0, 0},
+            {0, 0, 0, 2, 4, 2, 0, 0, 0},
+            {0, 0, 0, 2, 4, 2, 0, 0, 0},
+            {0, 0, 0, 2, 4, 2, 0, 0, 0},
+    };
+    // 兵：过河前几乎不加分，过河后越靠近九宫越有威胁，到底线反而无用
+    private static final int[][] SOLDIER_MG = {
+            {2, 3, 6, 9, 12, 9, 6, 3, 2},
+            {18, 30, 40, 52, 60, 52, 40, 30, 18},
+            {16, 26, 34, 44, 50, 44, 34, 26, 16},
+            {12, 20, 26, 32, 36, 32, 26, 20, 12},
+            {8, 14, 18, 22, 24, 22, 18, 14, 8},
+            {0, 0, 3, 0, 6, 0, 3, 0, 0},
+            {0, 0, -2, 0, 4, 0, -2, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+    };
+    private static final int[][] SOLDIER_EG = {
+            {4, 6, 8, 10, 12, 10, 8, 6, 4},
+            {24, 32, 40, 48, 52, 48, 40, 32, 24},
+            {22, 30, 38, 44, 48, 44, 38, 30, 22},
+            {20, 26, 32, 36, 40, 36, 32, 26, 20},
+            {16, 20, 24, 28, 30, 28, 24, 20, 16},
+            {2, 2, 4, 4, 6, 4, 4, 2, 2},
+            {0, 0, 0, 0, 2, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+    };
+
+    // [code * 90 + sq]：含子力的有符号分数（黑方为负）
+    private static final int[] MG = new int[PieceType.CODE_COUNT * Bitboard.SQUARES];
+    private static final int[] EG = new int[PieceType.CODE_COUNT * Bitboard.SQUARES];
+
+    static {
+        int[][][] mg = {GENERAL_MG, GUARD, BISHOP, KNIGHT, CHARIOT, CANNON_MG, SOLDIER_MG};
+        int[][][] eg = {GENERAL_EG, GUARD, BISHOP, KNIGHT, CHARIOT, CANNON_EG, SOLDIER_EG};
+        for (int code = 0; code < PieceType.CODE_COUNT; code++) {
+            int type = PieceType.typeOf(code);
+            boolean red = PieceType.colorOf(code) == Piece.Color.RED;
+            for (int sq = 0; sq < Bitboard.SQUARES; sq++) {
+                int row = sq / Bitboard.COLS, col = sq % Bitboard.COLS;
+                int r = red ? row : Bitboard.ROWS - 1 - row;
+                int sign = red ? 1 : -1;
+                MG[code * Bitboard.SQUARES + sq] = sign * (MATERIAL_MG[type] + POSITION_WEIGHT * mg[type][r][col]);
+                EG[code * Bitboard.SQUARES + sq] = sign * (MATERIAL_EG[type] + POSITION_WEIGHT * eg[type][r][col]);
+            }
+        }
+    }
+
+    private PieceSquareTables() {
+    }
+
+    /**
+     * code 棋子在 sq 上的中局分（红正黑负）
+     */
+    public static int mg(int code, int sq) {
+        return MG[code * Bitboard.SQUARES + sq];
+    }
+
+    /**
+     * code 棋子在 sq 上的残局分（红正黑负）
+     */
+    public static int eg(int code, int sq) {
+        return EG[code * Bitboard.SQUARES + sq];
+    }
+
+    public static int phase(int code) {
+        return PHASE[PieceType.typeOf(code)];
+    }
+
+    /**
+     * 中局子力价值（不含位置分），供走法排序等使用
+     */
+    public static int material(int code) {
+        return MATERIAL_MG[PieceType.typeOf(code)];
+    }
+
+    /**
+     * 按阶段在中局分与残局分之间插值（红方视角）
+     */
+    public static int taper(int mg, int eg, int phase) {
+        int p = Math.min(phase, MAX_PHASE);
+        return (mg * p + eg * (MAX_PHASE - p)) / MAX_PHASE;
+    }
+
+    /**
+     * 从头扫描棋盘计算 {中局分, 残局分, 阶段}，用于校验 Board 的增量结果
+     */
+    public static int[] compute(Board board) {
+        int[] terms = new int[3];
+        Piece[][] grid = board.getGrid();
+        for (int r = 0; r < Bitboard.ROWS; r++) {
+            for (int c = 0; c < Bitboard.COLS; c++) {
+                if (grid[r][c] == null) continue;
+                int code = grid[r][c].getCode();
+                int sq = Bitboard.square(r, c);
+                terms[0] += mg(code, sq);
+                terms[1] += eg(code, sq);
+                terms[2] += phase(code);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ydc.chess.model;
+
+/**
+ * 棋子类型编码。
+ * 类型 0-6 对应七种棋子；类型与颜色组合成 0-13 的棋子编号（红方 0-6，黑方 7-13），
+ * 供位棋盘等按下标访问的数据结构使用。
+ */
+public final class PieceType {
+    public static final int GENERAL = 0;
+    public static final int GUARD = 1;
+    public static final int BISHOP = 2;
+    public static final int KNIGHT = 3;
+    public static final int CHARIOT = 4;
+    public static final int CANNON = 5;
+    public static final int SOLDIER = 6;
+
+    // 棋子类型数量 / 棋子编号数量（类型 × 颜色）
+    public static final int TYPE_COUNT = 7;
+    public static final int CODE_COUNT = 14;
+
+    // FEN 字母，按类型编码排列（红方大写，黑方小写）
+    private static final String FEN_CHARS = "KABNRCP";
+
+    private PieceType() {
+    }
+
+    /**
+     * 根据棋子对象得到类型编码
+     */
+    public static int of(Piece p) {
+        return p.getType();
+    }
+
+    /**
+     * 类型 + 颜色 -> 棋子编号
+     */
+    public static int code(int type, Piece.Color color) {
+        return color == Piece.Color.RED ? type : type + TYPE_COUNT;
+    }
+
+    public static int code(Piece p) {
+        return p.getCode();
+    }
+
+    public static int typeOf(int code) {
+        return code % TYPE_COUNT;
+    }
+
+    public static Piece.Color colorOf(int code) {
+        return code < TYPE_COUNT ? Piece.Color.RED : Piece.Color.BLACK;
+    }
+
+    public static char fenChar(int code) {
+        char ch = FEN_CHARS.charAt(typeOf(code));
+        return code < TYPE_COUNT ? ch : Character.toLowerCase(ch);
+    }
+}
@@ -1,5 +1,4 @@
 package com.ydc.chess.model;
-import java.util.Objects;
 public class Pos {
     private final int x;
     private final int y;
@@ -33,6 +32,7 @@ public class Pos {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        // 坐标都很小，直接组合即可，避免 Objects.hash 的装箱与数组分配
+        return 31 * x + y;
     }
 }
\ No newline at end of file
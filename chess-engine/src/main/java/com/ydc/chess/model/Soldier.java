@@ -0,0 +1,7 @@
+package com.ydc.chess.model;
+
+public class Soldier extends Piece {
+    Soldier(String name, Color color) {
+        super(name, color, PieceType.SOLDIER);
+    }
+}
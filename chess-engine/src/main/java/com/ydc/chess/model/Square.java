@@ -0,0 +1,52 @@
+package com.ydc.chess.model;
+
+/**
+ * 格子编号 sq = 行 * 9 + 列（0-89）与 Pos 之间的转换。
+ * 引擎内部只使用格子编号；Pos 仅在界面、网络消息与 JSON 等边界出现，
+ * 边界处的转换使用预先建好的 90 个 Pos，不再分配对象。
+ */
+public final class Square {
+    public static final int NONE = -1;
+
+    private static final Pos[] POS = new Pos[Bitboard.SQUARES];
+
+    static {
+        for (int sq = 0; sq < Bitboard.SQUARES; sq++) {
+            POS[sq] = new Pos(col(sq), row(sq));
+        }
+    }
+
+    private Square() {
+    }
+
+    public static int of(int row, int col) {
+        return row * Bitboard.COLS + col;
+    }
+
+    /**
+     * Pos（x=列, y=行）-> 格子编号，越界或为 null 时返回 NONE
+     */
+    public static int of(Pos pos) {
+        if (pos == null || !isValid(pos.getY(), pos.getX())) return NONE;
+        return of(pos.getY(), pos.getX());
+    }
+
+    public static int row(int sq) {
+        return sq / Bitboard.COLS;
+    }
+
+    public static int col(int sq) {
+        return sq % Bitboard.COLS;
+    }
+
+    public static boolean isValid(int row, int col) {
+        return row >= 0 && row < Bitboard.ROWS && col >= 0 && col < Bitboard.COLS;
+    }
+
+    /**
+     * 格子编号对应的共享 Pos 实例
+     */
+    public static Pos toPos(int sq) {
+        return POS[sq];
+    }
+}
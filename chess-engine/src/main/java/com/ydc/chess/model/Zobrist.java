@@ -0,0 +1,47 @@
+package com.ydc.chess.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist 哈希键表。
+ * 局面键 = 所有 (棋子编号, 格子) 键的异或，黑方走棋时再异或 SIDE 键；
+ * 使用固定种子生成，保证不同进程、不同棋盘实例得到相同的键值。
+ */
+public final class Zobrist {
+    private static final long SEED = 0x5A0B1C2D3E4F5061L;
+
+    // PIECE_SQUARE[code * 90 + sq]
+    private static final long[] PIECE_SQUARE = new long[PieceType.CODE_COUNT * Bitboard.SQUARES];
+    public static final long SIDE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < PIECE_SQUARE.length; i++) {
+            PIECE_SQUARE[i] = random.nextLong();
+        }
+        SIDE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long pieceSquare(int code, int sq) {
+        return PIECE_SQUARE[code * Bitboard.SQUARES + sq];
+    }
+
+    /**
+     * 从头扫描棋盘计算局面键，用于校验 Board 的增量结果
+     */
+    public static long compute(Board board) {
+        long key = board.getCurrentTurn() == Piece.Color.BLACK ? SIDE : 0L;
+        Piece[][] grid = board.getGrid();
+        for (int r = 0; r < Bitboard.ROWS; r++) {
+            for (int c = 0; c < Bitboard.COLS; c++) {
+                if (grid[r][c] != null) {
+                    key ^= pieceSquare(grid[r][c].getCode(), Bitboard.square(r, c));
+                }
+            }
+        }
+        return key;
+    }
+}
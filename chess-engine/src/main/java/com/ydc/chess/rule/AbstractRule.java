@@ -0,0 +1,124 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Mailbox;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  工具方法集中在此，供各具体规则类复用。
+*/
+public abstract class AbstractRule implements Rule {
+    protected static boolean inBounds(int r, int c) {
+        return r >= 0 && r <= 9 && c >= 0 && c <= 8;
+    }
+
+    protected static boolean sameColor(Piece a, Piece b) {
+        if (a == null || b == null) return false;
+        return a.getColor() == b.getColor();
+    }
+
+    protected static boolean inPalace(Piece.Color color, int r, int c) {
+        if (c < 3 || c > 5) return false;
+        if (color == Piece.Color.RED) {
+            return r >= 7 && r <= 9;
+        } else {
+            return r >= 0 && r <= 2;
+        }
+    }
+
+    // 将帅只能待在九宫内，找对方将时只需扫描对方九宫的 9 个格子
+    protected static int findOppositeGeneralSquare(Piece[][] board, Piece.Color color) {
+        int top = (color == Piece.Color.RED) ? 0 : 7;
+        for (int r = top; r <= top + 2; r++) {
+            for (int c = 3; c <= 5; c++) {
+                Piece p = board[r][c];
+                if (p != null && p.getType() == PieceType.GENERAL && p.getColor() != color) return Bitboard.square(r, c);
+            }
+        }
+        return -1;
+    }
+
+    protected static Piece findOppositeGeneral(Piece[][] board, Piece.Color color) {
+        int sq = findOppositeGeneralSquare(board, color);
+        return sq < 0 ? null : board[sq / Bitboard.COLS][sq % Bitboard.COLS];
+    }
+
+    /**
+     * 跳子类棋子（见 LeaperTables）从 from 到 to 是否为一步几何上可走、且阻挡格为空的走法
+     */
+    protected static boolean leaperStep(Piece[][] board, int code, int from, int to) {
+        int block = LeaperTables.block(code, from, to);
+        if (block == LeaperTables.UNREACHABLE) return false;
+        return block == LeaperTables.NO_BLOCK || board[block / Bitboard.COLS][block % Bitboard.COLS] == null;
+    }
+
+    protected static int countBetween(Piece[][] board, int fx, int fy, int tx, int ty) {
+        if (fx == tx) {
+            int cnt = 0;
+            for (int c = Math.min(fy, ty) + 1; c <= Math.max(fy, ty) - 1; c++) {
+                if (board[fx][c] != null) cnt++;
+            }
+            return cnt;
+        } else if (fy == ty) {
+            int cnt = 0;
+            for (int r = Math.min(fx, tx) + 1; r <= Math.max(fx, tx) - 1; r++) {
+                if (board[r][fy] != null) cnt++;
+            }
+            return cnt;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * 同行或同列的车炮走法查 RayTables：cannonCapture 为 true 时查炮隔子吃子，否则查车的射线
+     */
+    protected static boolean onRay(Board board, int fx, int fy, int tx, int ty, boolean cannonCapture) {
+        if (fx == tx && fy != ty) {
+            int occ = board.getRankOccupancy(fx);
+            int mask = cannonCapture ? RayTables.rankCannon(fy, occ) : RayTables.rankSlide(fy, occ);
+            return (mask >> ty & 1) != 0;
+        }
+        if (fy == ty && fx != tx) {
+            int occ = board.getFileOccupancy(fy);
+            int mask = cannonCapture ? RayTables.fileCannon(fx, occ) : RayTables.fileSlide(fx, occ);
+            return (mask >> tx & 1) != 0;
+        }
+        return false;
+    }
+
+    // ================= mailbox 路径（见 Mailbox），走子与沿线扫描无需越界判断 =================
+
+    /**
+     * 公共前置检查：from 上是 type 类棋子、to 上不是己方棋子时返回走子的棋子编号，否则返回 -1
+     */
+    protected static int mailboxMover(byte[] mailbox, int from, int to, int type) {
+        int mover = mailbox[from] - 1;
+        if (mover < 0 || PieceType.typeOf(mover) != type) return -1;
+        int target = mailbox[to] - 1;
+        if (target >= 0 && (target < PieceType.TYPE_COUNT) == (mover < PieceType.TYPE_COUNT)) return -1;
+        return mover;
+    }
+
+    /**
+     * 同行或同列两格间的步进偏移，不在同一直线上返回 0
+     */
+    protected static int lineStep(int fx, int fy, int tx, int ty) {
+        if (fx == tx && fy != ty) return ty > fy ? 1 : -1;
+        if (fy == ty && fx != tx) return tx > fx ? Mailbox.WIDTH : -Mailbox.WIDTH;
+        return 0;
+    }
+
+    /**
+     * 沿 step 方向从 from 走到 to，统计中间（不含两端）的棋子数
+     */
+    protected static int countBetween(byte[] mailbox, int from, int to, int step) {
+        int cnt = 0;
+        for (int i = from + step; i != to; i += step) {
+            if (mailbox[i] != Mailbox.EMPTY) cnt++;
+        }
+        return cnt;
+    }
+}
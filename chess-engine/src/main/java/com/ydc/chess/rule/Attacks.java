@@ -0,0 +1,99 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  将军检测：从将（帅）所在格反向查找攻击者，而不是让每个敌方棋子走一遍规则。
+  四条直线（车、炮、对脸将）查 RayTables，马位与兵位直接查 LeaperTables 的反向表。
+  士、象无法越过九宫 / 河界，不可能对将构成攻击。
+*/
+public final class Attacks {
+    // 最多同时将军的棋子数（四条直线 + 马 + 兵），用于 checkers 缓冲区长度
+    public static final int MAX_CHECKERS = 8;
+
+    private Attacks() {
+    }
+
+    /**
+     * color 方是否被将军（包括将帅对脸）；棋盘上没有该方的将时视为被将
+     */
+    public static boolean isInCheck(Board board, Piece.Color color) {
+        int gsq = board.getGeneralSquare(color);
+        if (gsq < 0) return true;
+        return scan(board, gsq, color, null) > 0;
+    }
+
+    /**
+     * 把正在将 color 方的棋子所在格写入 out（长度至少 MAX_CHECKERS），返回个数
+     */
+    public static int checkers(Board board, Piece.Color color, int[] out) {
+        int gsq = board.getGeneralSquare(color);
+        if (gsq < 0) return 0;
+        return scan(board, gsq, color, out);
+    }
+
+    // out 为 null 时找到第一个攻击者即返回
+    private static int scan(Board board, int gsq, Piece.Color color, int[] out) {
+        Piece[][] grid = board.getGrid();
+        int gr = gsq / Bitboard.COLS, gc = gsq % Bitboard.COLS;
+        int n = 0;
+
+        // 直线查 RayTables：射线上第一个子为敌车 / 敌将（仅纵向对脸），隔一子为敌炮
+        int rankOcc = board.getRankOccupancy(gr), fileOcc = board.getFileOccupancy(gc);
+        for (int m = RayTables.rankSlide(gc, rankOcc) & rankOcc; m != 0; m &= m - 1) {
+            int c = Integer.numberOfTrailingZeros(m);
+            if (!isEnemy(grid[gr][c], color, PieceType.CHARIOT)) continue;
+            if (out == null) return 1;
+            out[n++] = Bitboard.square(gr, c);
+        }
+        for (int m = RayTables.fileSlide(gr, fileOcc) & fileOcc; m != 0; m &= m - 1) {
+            int r = Integer.numberOfTrailingZeros(m);
+            Piece p = grid[r][gc];
+            if (!isEnemy(p, color, PieceType.CHARIOT) && !isEnemy(p, color, PieceType.GENERAL)) continue;
+            if (out == null) return 1;
+            out[n++] = Bitboard.square(r, gc);
+        }
+        for (int m = RayTables.rankCannon(gc, rankOcc); m != 0; m &= m - 1) {
+            int c = Integer.numberOfTrailingZeros(m);
+            if (!isEnemy(grid[gr][c], color, PieceType.CANNON)) continue;
+            if (out == null) return 1;
+            out[n++] = Bitboard.square(gr, c);
+        }
+        for (int m = RayTables.fileCannon(gr, fileOcc); m != 0; m &= m - 1) {
+            int r = Integer.numberOfTrailingZeros(m);
+            if (!isEnemy(grid[r][gc], color, PieceType.CANNON)) continue;
+            if (out == null) return 1;
+            out[n++] = Bitboard.square(r, gc);
+        }
+
+        // 马、兵：一步能走到将位的敌方棋子所在格（马附带马腿）
+        Piece.Color enemy = (color == Piece.Color.RED) ? Piece.Color.BLACK : Piece.Color.RED;
+        int knight = PieceType.code(PieceType.KNIGHT, enemy);
+        Piece enemyKnight = Piece.of(knight);
+        int[] from = LeaperTables.sources(knight, gsq);
+        int[] leg = LeaperTables.sourceBlocks(knight, gsq);
+        for (int i = 0; i < from.length; i++) {
+            if (board.getPiece(from[i]) != enemyKnight) continue;
+            if (board.getPiece(leg[i]) != null) continue;
+            if (out == null) return 1;
+            out[n++] = from[i];
+        }
+
+        int soldier = PieceType.code(PieceType.SOLDIER, enemy);
+        Piece enemySoldier = Piece.of(soldier);
+        from = LeaperTables.sources(soldier, gsq);
+        for (int i = 0; i < from.length; i++) {
+            if (board.getPiece(from[i]) != enemySoldier) continue;
+            if (out == null) return 1;
+            out[n++] = from[i];
+        }
+        return n;
+    }
+
+    private static boolean isEnemy(Piece p, Piece.Color color, int type) {
+        return p.getColor() != color && p.getType() == type;
+    }
+}
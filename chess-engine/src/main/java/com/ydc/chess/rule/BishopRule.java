@@ -0,0 +1,42 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Mailbox;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  象（相）规则实现
+*/
+public class BishopRule extends AbstractRule {
+    @Override
+    public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        Piece from = board[fx][fy];
+        if (from == null || from.getType() != PieceType.BISHOP) return false;
+        Piece to = board[tx][ty];
+        if (to != null && sameColor(from, to)) return false;
+
+        // 田字、象眼与不能过河均已在表中处理
+        return leaperStep(board, from.getCode(), Bitboard.square(fx, fy), Bitboard.square(tx, ty));
+    }
+
+    @Override
+    public boolean isValidMove(Board board, int fx, int fy, int tx, int ty) {
+        if (board.getBacking() != Board.Backing.MAILBOX) return isValidMove(board.getGrid(), fx, fy, tx, ty);
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        byte[] mailbox = board.getMailbox();
+        int from = Mailbox.index(fx, fy), to = Mailbox.index(tx, ty);
+        int mover = mailboxMover(mailbox, from, to, PieceType.BISHOP);
+        if (mover < 0) return false;
+
+        int delta = to - from;
+        // 田字的四个方向：±2 行 ±2 列
+        if (delta != 2 * Mailbox.DIAGONAL[0] && delta != 2 * Mailbox.DIAGONAL[1]
+                && delta != 2 * Mailbox.DIAGONAL[2] && delta != 2 * Mailbox.DIAGONAL[3]) return false;
+        if (mailbox[from + delta / 2] != Mailbox.EMPTY) return false;
+        // 不能过河
+        return mover < PieceType.TYPE_COUNT ? tx >= 5 : tx <= 4;
+    }
+}
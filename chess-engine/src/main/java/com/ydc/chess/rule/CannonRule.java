@@ -0,0 +1,53 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Mailbox;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  炮规则实现
+*/
+public class CannonRule extends AbstractRule {
+    @Override
+    public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        Piece from = board[fx][fy];
+        if (from == null || from.getType() != PieceType.CANNON) return false;
+        Piece dest = board[tx][ty];
+        if (dest != null && sameColor(from, dest)) return false;
+
+        if (fx != tx && fy != ty) return false;
+        int between = countBetween(board, fx, fy, tx, ty);
+        if (dest == null) {
+            return between == 0;
+        } else {
+            return between == 1 && dest.getColor() != from.getColor();
+        }
+    }
+
+    @Override
+    public boolean isValidMove(Board board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        if (board.getBacking() == Board.Backing.MAILBOX) return isValidMailbox(board, fx, fy, tx, ty);
+        Piece[][] grid = board.getGrid();
+        Piece from = grid[fx][fy];
+        if (from == null || from.getType() != PieceType.CANNON) return false;
+        Piece dest = grid[tx][ty];
+        if (dest != null && sameColor(from, dest)) return false;
+        // 不吃子与车相同；吃子查隔一个炮架的那一格
+        return onRay(board, fx, fy, tx, ty, dest != null);
+    }
+
+    private boolean isValidMailbox(Board board, int fx, int fy, int tx, int ty) {
+        byte[] mailbox = board.getMailbox();
+        int from = Mailbox.index(fx, fy), to = Mailbox.index(tx, ty);
+        if (mailboxMover(mailbox, from, to, PieceType.CANNON) < 0) return false;
+
+        int step = lineStep(fx, fy, tx, ty);
+        if (step == 0) return false;
+        int between = countBetween(mailbox, from, to, step);
+        // 不吃子时中间不能有子，吃子时恰好隔一个炮架（己方棋子已在前置检查中排除）
+        return mailbox[to] == Mailbox.EMPTY ? between == 0 : between == 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Mailbox;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  车规则实现
+*/
+public class ChariotRule extends AbstractRule {
+    @Override
+    public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        Piece from = board[fx][fy];
+        if (from == null || from.getType() != PieceType.CHARIOT) return false;
+        Piece to = board[tx][ty];
+        if (to != null && sameColor(from, to)) return false;
+
+        if (fx != tx && fy != ty) return false;
+        return countBetween(board, fx, fy, tx, ty) == 0;
+    }
+
+    @Override
+    public boolean isValidMove(Board board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        if (board.getBacking() == Board.Backing.MAILBOX) return isValidMailbox(board, fx, fy, tx, ty);
+        Piece[][] grid = board.getGrid();
+        Piece from = grid[fx][fy];
+        if (from == null || from.getType() != PieceType.CHARIOT) return false;
+        Piece to = grid[tx][ty];
+        if (to != null && sameColor(from, to)) return false;
+        // 行列占用查表，射线上第一个子之前（含该子）都可到达
+        return onRay(board, fx, fy, tx, ty, false);
+    }
+
+    private boolean isValidMailbox(Board board, int fx, int fy, int tx, int ty) {
+        byte[] mailbox = board.getMailbox();
+        int from = Mailbox.index(fx, fy), to = Mailbox.index(tx, ty);
+        if (mailboxMover(mailbox, from, to, PieceType.CHARIOT) < 0) return false;
+
+        int step = lineStep(fx, fy, tx, ty);
+        if (step == 0) return false;
+        return countBetween(mailbox, from, to, step) == 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.model.Piece;
+
+// 判定将死 / 困毙的规则类
+public class CheckMate {
+
+    /**
+     * 判断当前走棋方的状态：一次遍历伪合法走法，找到第一个合法应着即返回。
+     * 多数走法由 Pins 直接判定；需要试走的放在棋盘副本上，传入的棋盘（界面所用）全程不被修改
+     */
+    public static GameStatus evaluate(Board board) {
+        Piece.Color side = board.getCurrentTurn();
+        Pins pins = new Pins().compute(board);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int n = MoveGenerator.generateAll(board, moves);
+        Board scratch = null;
+        for (int i = 0; i < n; i++) {
+            boolean legal = pins.isSafe(Moves.from(moves[i]), Moves.to(moves[i]));
+            if (!legal) {
+                if (scratch == null) scratch = board.cloneBoard();
+                scratch.makeMove(moves[i]);
+                legal = !scratch.isincheck(side);
+                scratch.unmakeMove();
+            }
+            if (legal) return pins.isInCheck() ? GameStatus.CHECK : GameStatus.ONGOING;
+        }
+        return pins.isInCheck() ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+    }
+
+    /**
+     * 当前走棋方是否已无合法走法（将死或困毙）
+     */
+    public static boolean checkMate(Board board) {
+        return evaluate(board).isOver();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ydc.chess.rule;
+
+/*
+  轮到走棋的一方所处的对局状态，由 CheckMate.evaluate 给出
+*/
+public enum GameStatus {
+    ONGOING,    // 正常走棋
+    CHECK,      // 被将军，但有应着
+    CHECKMATE,  // 将死
+    STALEMATE;  // 困毙：未被将军但无子可走
+
+    /**
+     * 对局是否结束（将死或困毙都判走棋方负）
+     */
+    public boolean isOver() {
+        return this == CHECKMATE || this == STALEMATE;
+    }
+}
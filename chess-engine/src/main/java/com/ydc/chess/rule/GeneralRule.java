@@ -1,9 +1,9 @@
 package com.ydc.chess.rule;
 
-import com.ydc.chess.model.General;
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
 import com.ydc.chess.model.Piece;
-
-import java.util.Objects;
+import com.ydc.chess.model.PieceType;
 
 /*
   将（帅）规则实现
@@ -13,39 +13,41 @@ public class GeneralRule extends AbstractRule {
     public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
         if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
         Piece from = board[fx][fy];
-        if (!(from instanceof General)) return false;
-        General g = (General) from;
+        if (from == null || from.getType() != PieceType.GENERAL) return false;
+        // 对方将只可能在其九宫内
+        return isValidMove(board, fx, fy, tx, ty, findOppositeGeneralSquare(board, from.getColor()));
+    }
+
+    @Override
+    public boolean isValidMove(Board board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        Piece[][] grid = board.getGrid();
+        Piece from = grid[fx][fy];
+        if (from == null || from.getType() != PieceType.GENERAL) return false;
+        // 棋盘直接维护了将帅位置，无需扫描
+        Piece.Color other = (from.getColor() == Piece.Color.RED) ? Piece.Color.BLACK : Piece.Color.RED;
+        return isValidMove(grid, fx, fy, tx, ty, board.getGeneralSquare(other));
+    }
+
+    private boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty, int otherGeneral) {
+        Piece g = board[fx][fy];
 
         Piece to = board[tx][ty];
-        if (to != null && sameColor(from, to)) return false;
+        if (to != null && sameColor(g, to)) return false;
 
-        if (!inPalace(g.getColor(), tx, ty)) return false;
-        int dr = Math.abs(tx - fx);
-        int dc = Math.abs(ty - fy);
-        if (dr + dc != 1) return false;
+        // 九宫内直走一格，查表得到
+        if (!leaperStep(board, g.getCode(), Bitboard.square(fx, fy), Bitboard.square(tx, ty))) return false;
 
         // 检查将帅面对面规则
-        // 找到对方将的位置
-        int otherGeneralRow = -1, otherGeneralCol = -1;
-        for (int r = 0; r <= 9; r++) {
-            for (int c = 0; c <= 8; c++) {
-                Piece p = board[r][c];
-                if (p != null && p instanceof General && p.getColor() != g.getColor()) {
-                    otherGeneralRow = r;
-                    otherGeneralCol = c;
-                    break;
-                }
-            }
-            if (otherGeneralRow != -1) break;
-        }
-        
         // 如果找到了对方将，检查移动后是否面对面
         // 注意：如果目标是对方将（吃将），这是允许的，不需要检查面对面
-        if (otherGeneralRow != -1 && otherGeneralCol != -1) {
+        if (otherGeneral >= 0) {
+            int otherGeneralRow = otherGeneral / Bitboard.COLS;
+            int otherGeneralCol = otherGeneral % Bitboard.COLS;
             // 检查移动后两个将是否在同一列
             if (otherGeneralCol == ty) {
                 // 如果目标是对方将的位置（吃将），允许移动
-                if (tx == otherGeneralRow && ty == otherGeneralCol) {
+                if (tx == otherGeneralRow) {
                     // 这是吃将，允许
                     return true;
                 }
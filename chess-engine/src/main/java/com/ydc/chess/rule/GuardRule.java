@@ -1,7 +1,8 @@
 package com.ydc.chess.rule;
 
-import com.ydc.chess.model.Guard;
+import com.ydc.chess.model.Bitboard;
 import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
 
 /*
   士（仕）规则实现
@@ -11,13 +12,11 @@ public class GuardRule extends AbstractRule {
     public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
         if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
         Piece from = board[fx][fy];
-        if (!(from instanceof Guard)) return false;
-        Guard s = (Guard) from;
+        if (from == null || from.getType() != PieceType.GUARD) return false;
         Piece to = board[tx][ty];
         if (to != null && sameColor(from, to)) return false;
 
-        if (!inPalace(s.getColor(), tx, ty)) return false;
-        int dr = Math.abs(tx - fx), dc = Math.abs(ty - fy);
-        return dr == 1 && dc == 1;
+        // 九宫内斜走一格，查表得到
+        return leaperStep(board, from.getCode(), Bitboard.square(fx, fy), Bitboard.square(tx, ty));
     }
 }
@@ -0,0 +1,37 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Mailbox;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  马规则实现
+*/
+public class KnightRule extends AbstractRule {
+    @Override
+    public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        Piece from = board[fx][fy];
+        if (from == null || from.getType() != PieceType.KNIGHT) return false;
+        Piece to = board[tx][ty];
+        if (to != null && sameColor(from, to)) return false;
+
+        // 日字与马腿查表得到
+        return leaperStep(board, from.getCode(), Bitboard.square(fx, fy), Bitboard.square(tx, ty));
+    }
+
+    @Override
+    public boolean isValidMove(Board board, int fx, int fy, int tx, int ty) {
+        if (board.getBacking() != Board.Backing.MAILBOX) return isValidMove(board.getGrid(), fx, fy, tx, ty);
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        byte[] mailbox = board.getMailbox();
+        int from = Mailbox.index(fx, fy), to = Mailbox.index(tx, ty);
+        if (mailboxMover(mailbox, from, to, PieceType.KNIGHT) < 0) return false;
+
+        // 查表得到马腿偏移，不是日字时为 0
+        int leg = Mailbox.knightLeg(from, to);
+        return leg != 0 && mailbox[from + leg] == Mailbox.EMPTY;
+    }
+}
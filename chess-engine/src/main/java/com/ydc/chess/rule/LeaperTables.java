@@ -0,0 +1,191 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+import java.util.Arrays;
+
+/*
+  跳子类棋子（将、士、象、马、兵）的预计算走法表，下标为棋子编号（见 PieceType）与格子 sq。
+  九宫、河界、兵是否过河等与颜色有关的限制已在建表时处理，红黑两方各有一份；马与颜色无关，两方共用。
+  每个目标格附带一个阻挡格（马腿、象眼），没有阻挡格的为 NO_BLOCK，
+  于是生成与校验都只剩一次查表加一次占用判断。
+*/
+public final class LeaperTables {
+    // block() 的返回值：不是该棋子的一步 / 没有阻挡格
+    public static final int UNREACHABLE = -2;
+    public static final int NO_BLOCK = -1;
+
+    private static final int SQUARES = Bitboard.SQUARES;
+
+    private static final int[] ORTHOGONAL_DR = {-1, 1, 0, 0};
+    private static final int[] ORTHOGONAL_DC = {0, 0, -1, 1};
+    private static final int[] DIAGONAL_DR = {-1, -1, 1, 1};
+    private static final int[] DIAGONAL_DC = {-1, 1, -1, 1};
+    // 马：目标偏移与对应马腿偏移
+    private static final int[] KNIGHT_DR = {-2, -2, 2, 2, -1, 1, -1, 1};
+    private static final int[] KNIGHT_DC = {-1, 1, -1, 1, -2, -2, 2, 2};
+    private static final int[] KNIGHT_LEG_DR = {-1, -1, 1, 1, 0, 0, 0, 0};
+    private static final int[] KNIGHT_LEG_DC = {0, 0, 0, 0, -1, -1, 1, 1};
+
+    // [code][sq]：从 sq 出发的目标格及对应阻挡格（两数组一一对应）
+    private static final int[][][] TARGETS = new int[PieceType.CODE_COUNT][][];
+    private static final int[][][] BLOCKS = new int[PieceType.CODE_COUNT][][];
+    // [code][sq]：一步能走到 sq 的起点格及对应阻挡格，供反向查找攻击者
+    private static final int[][][] SOURCES = new int[PieceType.CODE_COUNT][][];
+    private static final int[][][] SOURCE_BLOCKS = new int[PieceType.CODE_COUNT][][];
+    // [code][from * 90 + to]：阻挡格，或 UNREACHABLE / NO_BLOCK
+    private static final byte[][] BLOCK = new byte[PieceType.CODE_COUNT][];
+
+    static {
+        for (int code = 0; code < PieceType.CODE_COUNT; code++) {
+            int type = PieceType.typeOf(code);
+            if (type == PieceType.CHARIOT || type == PieceType.CANNON) continue;
+            if (type == PieceType.KNIGHT && code >= PieceType.TYPE_COUNT) {
+                // 马不分颜色
+                int red = PieceType.KNIGHT;
+                TARGETS[code] = TARGETS[red];
+                BLOCKS[code] = BLOCKS[red];
+                SOURCES[code] = SOURCES[red];
+                SOURCE_BLOCKS[code] = SOURCE_BLOCKS[red];
+                BLOCK[code] = BLOCK[red];
+                continue;
+            }
+            build(code, type, code < PieceType.TYPE_COUNT);
+        }
+    }
+
+    private LeaperTables() {
+    }
+
+    /**
+     * code 棋子在 sq 上的全部目标格（不考虑占用），只读
+     */
+    public static int[] targets(int code, int sq) {
+        return TARGETS[code][sq];
+    }
+
+    /**
+     * 与 targets(code, sq) 一一对应的阻挡格，只读
+     */
+    public static int[] blocks(int code, int sq) {
+        return BLOCKS[code][sq];
+    }
+
+    /**
+     * 一步能走到 sq 的 code 棋子所在格，只读
+     */
+    public static int[] sources(int code, int sq) {
+        return SOURCES[code][sq];
+    }
+
+    /**
+     * 与 sources(code, sq) 一一对应的阻挡格，只读
+     */
+    public static int[] sourceBlocks(int code, int sq) {
+        return SOURCE_BLOCKS[code][sq];
+    }
+
+    /**
+     * code 棋子从 from 走到 to 的阻挡格；不是一步合法几何走法返回 UNREACHABLE，无阻挡格返回 NO_BLOCK
+     */
+    public static int block(int code, int from, int to) {
+        return BLOCK[code][from * SQUARES + to];
+    }
+
+    private static void build(int code, int type, boolean red) {
+        int[][] targets = new int[SQUARES][];
+        int[][] blocks = new int[SQUARES][];
+        byte[] block = new byte[SQUARES * SQUARES];
+        Arrays.fill(block, (byte) UNREACHABLE);
+        int[] sourceCount = new int[SQUARES];
+
+        int[] t = new int[8];
+        int[] b = new int[8];
+        for (int from = 0; from < SQUARES; from++) {
+            int n = steps(type, red, from / Bitboard.COLS, from % Bitboard.COLS, t, b);
+            targets[from] = Arrays.copyOf(t, n);
+            blocks[from] = Arrays.copyOf(b, n);
+            for (int i = 0; i < n; i++) {
+                block[from * SQUARES + t[i]] = (byte) b[i];
+                sourceCount[t[i]]++;
+            }
+        }
+
+        int[][] sources = new int[SQUARES][];
+        int[][] sourceBlocks = new int[SQUARES][];
+        for (int sq = 0; sq < SQUARES; sq++) {
+            sources[sq] = new int[sourceCount[sq]];
+            sourceBlocks[sq] = new int[sourceCount[sq]];
+            sourceCount[sq] = 0;
+        }
+        for (int from = 0; from < SQUARES; from++) {
+            for (int i = 0; i < targets[from].length; i++) {
+                int to = targets[from][i];
+                sources[to][sourceCount[to]] = from;
+                sourceBlocks[to][sourceCount[to]++] = blocks[from][i];
+            }
+        }
+
+        TARGETS[code] = targets;
+        BLOCKS[code] = blocks;
+        SOURCES[code] = sources;
+        SOURCE_BLOCKS[code] = sourceBlocks;
+        BLOCK[code] = block;
+    }
+
+    // 按规则枚举 (row, col) 上一步的目标格与阻挡格，返回个数；只在建表时调用
+    private static int steps(int type, boolean red, int row, int col, int[] t, int[] b) {
+        Piece.Color color = red ? Piece.Color.RED : Piece.Color.BLACK;
+        int n = 0;
+        switch (type) {
+            case PieceType.GENERAL:
+                for (int d = 0; d < 4; d++) {
+                    int r = row + ORTHOGONAL_DR[d], c = col + ORTHOGONAL_DC[d];
+                    if (AbstractRule.inPalace(color, r, c)) n = add(t, b, n, r, c, NO_BLOCK);
+                }
+                break;
+            case PieceType.GUARD:
+                for (int d = 0; d < 4; d++) {
+                    int r = row + DIAGONAL_DR[d], c = col + DIAGONAL_DC[d];
+                    if (AbstractRule.inPalace(color, r, c)) n = add(t, b, n, r, c, NO_BLOCK);
+                }
+                break;
+            case PieceType.BISHOP:
+                for (int d = 0; d < 4; d++) {
+                    int r = row + 2 * DIAGONAL_DR[d], c = col + 2 * DIAGONAL_DC[d];
+                    // 不能过河
+                    if (!AbstractRule.inBounds(r, c) || (red ? r < 5 : r > 4)) continue;
+                    n = add(t, b, n, r, c, Bitboard.square(row + DIAGONAL_DR[d], col + DIAGONAL_DC[d]));
+                }
+                break;
+            case PieceType.KNIGHT:
+                for (int d = 0; d < 8; d++) {
+                    int r = row + KNIGHT_DR[d], c = col + KNIGHT_DC[d];
+                    if (!AbstractRule.inBounds(r, c)) continue;
+                    n = add(t, b, n, r, c, Bitboard.square(row + KNIGHT_LEG_DR[d], col + KNIGHT_LEG_DC[d]));
+                }
+                break;
+            case PieceType.SOLDIER: {
+                int forward = red ? -1 : 1;
+                boolean crossed = red ? row <= 4 : row >= 5;
+                if (AbstractRule.inBounds(row + forward, col)) n = add(t, b, n, row + forward, col, NO_BLOCK);
+                if (crossed) {
+                    if (col > 0) n = add(t, b, n, row, col - 1, NO_BLOCK);
+                    if (col < 8) n = add(t, b, n, row, col + 1, NO_BLOCK);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+        return n;
+    }
+
+    private static int add(int[] t, int[] b, int n, int r, int c, int block) {
+        t[n] = Bitboard.square(r, c);
+        b[n] = block;
+        return n + 1;
+    }
+}
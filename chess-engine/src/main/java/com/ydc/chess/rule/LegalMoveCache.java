@@ -0,0 +1,123 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+  按局面缓存全部合法走法（已排除自将与对脸）及该局面的对局状态，键为 Zobrist 局面键（含走棋方），
+  容量有限、最久未用的先淘汰。
+  界面显示可走位置、点击走子、走后判断将军 / 将死共用同一份结果，都只是查表；
+  MoveSpeculator 会在玩家思考时预先填好当前局面及其每个应着之后的局面。
+  读写都在 CACHE 上同步，可由后台线程同时填充。
+*/
+public final class LegalMoveCache {
+    // 预判一层约 40 个局面，留出悔棋、复盘来回切换的余量
+    private static final int CAPACITY = 512;
+
+    private static final Map<Long, Entry> CACHE = new LinkedHashMap<Long, Entry>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    private static final class Entry {
+        final int[] moves;
+        final GameStatus status;
+
+        Entry(int[] moves, GameStatus status) {
+            this.moves = moves;
+            this.status = status;
+        }
+    }
+
+    private LegalMoveCache() {
+    }
+
+    /**
+     * board 当前局面的全部合法走法（打包格式见 Moves，只读）；未缓存时生成一次。
+     * 生成时会在 board 上试走再还原，应由持有该棋盘的线程调用
+     */
+    public static int[] legalMoves(Board board) {
+        return entry(board).moves;
+    }
+
+    /**
+     * board 当前局面走棋方的状态（将军 / 将死 / 困毙 / 正常），与 CheckMate.evaluate 结果相同
+     */
+    public static GameStatus status(Board board) {
+        return entry(board).status;
+    }
+
+    /**
+     * 把 from 格棋子的合法目标格写入 targets（长度至少 MoveGenerator.MAX_TARGETS），返回个数
+     */
+    public static int targets(Board board, int from, int[] targets) {
+        int n = 0;
+        for (int move : legalMoves(board)) {
+            if (Moves.from(move) == from) targets[n++] = Moves.to(move);
+        }
+        return n;
+    }
+
+    /**
+     * from -> to 是否为当前局面的合法走法
+     */
+    public static boolean isLegal(Board board, int from, int to) {
+        for (int move : legalMoves(board)) {
+            if (Moves.from(move) == from && Moves.to(move) == to) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 计算并存入 board 当前局面（已缓存则跳过），返回该局面的合法走法
+     */
+    public static int[] fill(Board board) {
+        return entry(board).moves;
+    }
+
+    public static boolean contains(long key) {
+        synchronized (CACHE) {
+            return CACHE.containsKey(key);
+        }
+    }
+
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    private static Entry entry(Board board) {
+        long key = board.getHash();
+        synchronized (CACHE) {
+            Entry e = CACHE.get(key);
+            if (e != null) return e;
+        }
+        // 生成放在锁外，两个线程同时算同一局面只是重复一次
+        Entry e = compute(board);
+        synchronized (CACHE) {
+            CACHE.put(key, e);
+        }
+        return e;
+    }
+
+    private static Entry compute(Board board) {
+        int[] buf = new int[MoveGenerator.MAX_MOVES];
+        int n = MoveGenerator.generateLegal(board, buf);
+        int[] moves = new int[n];
+        System.arraycopy(buf, 0, moves, 0, n);
+        boolean inCheck = board.isincheck(board.getCurrentTurn());
+        GameStatus status;
+        if (n > 0) {
+            status = inCheck ? GameStatus.CHECK : GameStatus.ONGOING;
+        } else {
+            status = inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        }
+        return new Entry(moves, status);
+    }
+}
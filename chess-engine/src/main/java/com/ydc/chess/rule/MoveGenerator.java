@@ -0,0 +1,206 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Moves;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  伪合法走法生成器：按棋子走法只枚举几何上可达的目标格（含蹩马腿、塞象眼、炮架、九宫、过河），
+  不判断走后是否被将军。目标格以 sq = 行 * 9 + 列 写入调用方提供的缓冲区，
+  缓冲区可重复使用，长度至少为 MAX_TARGETS。
+*/
+public final class MoveGenerator {
+    // 单个棋子最多的目标数（车/炮：横 8 + 竖 9）
+    public static final int MAX_TARGETS = 17;
+    // 一方全部伪合法走法的上限（双车双炮 68 + 双马 16 + 象士 16 + 将 4 + 五兵 15 = 119）
+    public static final int MAX_MOVES = 128;
+
+    // 生成哪一类走法：全部 / 只吃子 / 只不吃子
+    private static final int ALL = 0;
+    private static final int CAPTURES = 1;
+    private static final int QUIETS = 2;
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * 生成 (row, col) 上棋子的全部伪合法目标格，返回写入 targets 的个数
+     */
+    public static int generate(Board board, int row, int col, int[] targets) {
+        return generate(board, board.getGrid(), row, col, targets, 0, ALL);
+    }
+
+    /**
+     * 生成当前走棋方的全部伪合法走法（完整打包格式见 Moves），返回写入 moves 的个数；
+     * moves 长度至少为 MAX_MOVES
+     */
+    public static int generateAll(Board board, int[] moves) {
+        return generate(board, moves, ALL);
+    }
+
+    /**
+     * 只生成吃子走法（格式同 generateAll），返回个数
+     */
+    public static int generateCaptures(Board board, int[] moves) {
+        return generate(board, moves, CAPTURES);
+    }
+
+    /**
+     * 只生成不吃子走法（格式同 generateAll），返回个数；与 generateCaptures 合起来即 generateAll
+     */
+    public static int generateQuiets(Board board, int[] moves) {
+        return generate(board, moves, QUIETS);
+    }
+
+    /**
+     * move 在当前局面是否为伪合法走法：走子与被吃棋子（或空格）都与局面一致，且几何上可达。
+     * 用于检查来自置换表、杀手表等其他局面的走法
+     */
+    public static boolean isPseudoLegal(Board board, int move) {
+        int from = Moves.from(move), to = Moves.to(move);
+        if (from >= Bitboard.SQUARES || to >= Bitboard.SQUARES) return false;
+        Piece p = board.getPiece(from);
+        if (p == null || p.getColor() != board.getCurrentTurn() || p.getCode() != Moves.piece(move)) return false;
+        Piece q = board.getPiece(to);
+        if (q == null ? Moves.isCapture(move) : (q.getColor() == p.getColor() || q.getCode() != Moves.captured(move))) {
+            return false;
+        }
+        int type = p.getType();
+        if (type == PieceType.CHARIOT || type == PieceType.CANNON) {
+            // 车、炮按射线掩码判断，炮吃子查隔子的那一格
+            boolean slide = type == PieceType.CHARIOT || q == null;
+            int fr = from / Bitboard.COLS, fc = from % Bitboard.COLS;
+            int tr = to / Bitboard.COLS, tc = to % Bitboard.COLS;
+            if (fr == tr) {
+                int occ = board.getRankOccupancy(fr);
+                int cols = slide ? RayTables.rankSlide(fc, occ) : RayTables.rankCannon(fc, occ);
+                return (cols & (1 << tc)) != 0;
+            }
+            if (fc == tc) {
+                int occ = board.getFileOccupancy(fc);
+                int rows = slide ? RayTables.fileSlide(fr, occ) : RayTables.fileCannon(fr, occ);
+                return (rows & (1 << tr)) != 0;
+            }
+            return false;
+        }
+        int block = LeaperTables.block(p.getCode(), from, to);
+        if (block == LeaperTables.UNREACHABLE) return false;
+        return block == LeaperTables.NO_BLOCK || board.getPiece(block) == null;
+    }
+
+    private static int generate(Board board, int[] moves, int kind) {
+        Piece.Color side = board.getCurrentTurn();
+        int count = board.getPieceCount(side);
+        Piece[][] grid = board.getGrid();
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int from = board.getPieceSquare(side, i);
+            int piece = grid[from / Bitboard.COLS][from % Bitboard.COLS].getCode();
+            // 先把目标格直接写进 moves 的空闲区，再原地打包（含走子与被吃棋子）
+            int end = generate(board, grid, from / Bitboard.COLS, from % Bitboard.COLS, moves, n, kind);
+            for (int j = n; j < end; j++) {
+                int to = moves[j];
+                Piece captured = grid[to / Bitboard.COLS][to % Bitboard.COLS];
+                moves[j] = Moves.of(from, to, piece, captured == null ? -1 : captured.getCode());
+            }
+            n = end;
+        }
+        return n;
+    }
+
+    /**
+     * 生成当前走棋方的全部合法走法（格式同 generateAll），返回个数。
+     * 先用 Pins 直接判定，无法判定的走法再用 makeMove / unmakeMove 试走，棋盘最终不变
+     */
+    public static int generateLegal(Board board, int[] moves) {
+        Piece.Color side = board.getCurrentTurn();
+        Pins pins = new Pins().compute(board);
+        int n = generateAll(board, moves);
+        int legal = 0;
+        for (int i = 0; i < n; i++) {
+            int move = moves[i];
+            boolean ok = pins.isSafe(Moves.from(move), Moves.to(move));
+            if (!ok) {
+                board.makeMove(move);
+                ok = !board.isincheck(side);
+                board.unmakeMove();
+            }
+            if (ok) moves[legal++] = move;
+        }
+        return legal;
+    }
+
+    // 从 targets[n] 开始写入 kind 类的目标格，返回写入后的结束下标
+    private static int generate(Board board, Piece[][] grid, int row, int col, int[] targets, int n, int kind) {
+        Piece p = grid[row][col];
+        if (p == null) return n;
+        switch (p.getType()) {
+            case PieceType.CHARIOT: return chariot(board, grid, row, col, p.getColor(), targets, n, kind);
+            case PieceType.CANNON: return cannon(board, grid, row, col, p.getColor(), targets, n, kind);
+            default: return leaper(grid, p.getCode(), Bitboard.square(row, col), p.getColor(), targets, n, kind);
+        }
+    }
+
+    // 车：行列占用查 RayTables，射线上第一个子是敌子才可吃；按 kind 只保留有子或无子的格子
+    private static int chariot(Board board, Piece[][] grid, int row, int col, Piece.Color color, int[] targets, int n,
+                               int kind) {
+        int rankOcc = board.getRankOccupancy(row), fileOcc = board.getFileOccupancy(col);
+        int rankMask = kind == CAPTURES ? rankOcc : kind == QUIETS ? ~rankOcc : -1;
+        int fileMask = kind == CAPTURES ? fileOcc : kind == QUIETS ? ~fileOcc : -1;
+        n = addRank(grid, row, RayTables.rankSlide(col, rankOcc) & rankMask, color, targets, n);
+        return addFile(grid, col, RayTables.fileSlide(row, fileOcc) & fileMask, color, targets, n);
+    }
+
+    // 炮：不吃子走到射线上的空格，吃子查隔一个炮架的那一格
+    private static int cannon(Board board, Piece[][] grid, int row, int col, Piece.Color color, int[] targets, int n,
+                              int kind) {
+        int rankOcc = board.getRankOccupancy(row), fileOcc = board.getFileOccupancy(col);
+        if (kind != CAPTURES) {
+            n = addRank(grid, row, RayTables.rankSlide(col, rankOcc) & ~rankOcc, color, targets, n);
+            n = addFile(grid, col, RayTables.fileSlide(row, fileOcc) & ~fileOcc, color, targets, n);
+        }
+        if (kind != QUIETS) {
+            n = addRank(grid, row, RayTables.rankCannon(col, rankOcc), color, targets, n);
+            n = addFile(grid, col, RayTables.fileCannon(row, fileOcc), color, targets, n);
+        }
+        return n;
+    }
+
+    // 把 row 行中 cols 掩码内的空格或敌子写入 targets
+    private static int addRank(Piece[][] grid, int row, int cols, Piece.Color color, int[] targets, int n) {
+        while (cols != 0) {
+            int c = Integer.numberOfTrailingZeros(cols);
+            cols &= cols - 1;
+            Piece q = grid[row][c];
+            if (q == null || q.getColor() != color) targets[n++] = Bitboard.square(row, c);
+        }
+        return n;
+    }
+
+    // 把 col 列中 rows 掩码内的空格或敌子写入 targets
+    private static int addFile(Piece[][] grid, int col, int rows, Piece.Color color, int[] targets, int n) {
+        while (rows != 0) {
+            int r = Integer.numberOfTrailingZeros(rows);
+            rows &= rows - 1;
+            Piece q = grid[r][col];
+            if (q == null || q.getColor() != color) targets[n++] = Bitboard.square(r, col);
+        }
+        return n;
+    }
+
+    // 马、象、士、将、兵：按 LeaperTables 逐个目标格检查阻挡格与目标格占用
+    private static int leaper(Piece[][] grid, int code, int from, Piece.Color color, int[] targets, int n, int kind) {
+        int[] to = LeaperTables.targets(code, from);
+        int[] block = LeaperTables.blocks(code, from);
+        for (int i = 0; i < to.length; i++) {
+            Piece q = grid[to[i] / Bitboard.COLS][to[i] % Bitboard.COLS];
+            if (q == null ? kind == CAPTURES : (q.getColor() == color || kind == QUIETS)) continue;
+            int b = block[i];
+            if (b != LeaperTables.NO_BLOCK && grid[b / Bitboard.COLS][b % Bitboard.COLS] != null) continue;
+            targets[n++] = to[i];
+        }
+        return n;
+    }
+}
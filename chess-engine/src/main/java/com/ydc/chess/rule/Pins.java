@@ -0,0 +1,121 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  牵制分析：不试走就能判定大多数走法不会造成自将（含将帅对脸）。
+  走子方当前未被将军时，非将帅的走子只可能通过两种方式让己方被将：
+  1. 离开一个"被牵制"的格子：
+     - 将所在直线上第一个子，其后第一个子是敌车（纵向还有敌将，即对脸）；
+     - 直线上第一、第二个子，其后再一个子是敌炮（少了炮架之外的一个子，炮便隔一子打将）；
+     - 敌马攻击将时的马腿。
+  2. 走到将与直线上第一个敌炮之间，成为该炮的炮架。
+  吃子不改变占用，不会带来新的攻击。两种情况都不满足即可直接判定合法；
+  否则（以及被将军、走将帅时）由调用方试走后检测。
+*/
+public final class Pins {
+    private static final int[] ORTHOGONAL_DR = {-1, 1, 0, 0};
+    private static final int[] ORTHOGONAL_DC = {0, 0, -1, 1};
+
+    // 被牵制的起点格 / 会成为敌炮炮架的终点格（位棋盘，lo/hi 含义见 Bitboard）
+    private long pinnedLo, pinnedHi;
+    private long screenLo, screenHi;
+    private boolean inCheck;
+    private int general;
+
+    /**
+     * 分析 board 当前走棋方的牵制情况，之后可对该局面反复调用 isSafe
+     */
+    public Pins compute(Board board) {
+        Piece.Color color = board.getCurrentTurn();
+        pinnedLo = pinnedHi = screenLo = screenHi = 0L;
+        general = board.getGeneralSquare(color);
+        inCheck = Attacks.isInCheck(board, color);
+        if (inCheck) return this;
+
+        Piece[][] grid = board.getGrid();
+        int gr = general / Bitboard.COLS, gc = general % Bitboard.COLS;
+        int[] ray = new int[3];
+        for (int d = 0; d < 4; d++) {
+            // 该方向上最近的三个子
+            int found = 0;
+            int r = gr + ORTHOGONAL_DR[d], c = gc + ORTHOGONAL_DC[d];
+            while (found < 3 && AbstractRule.inBounds(r, c)) {
+                if (grid[r][c] != null) ray[found++] = Bitboard.square(r, c);
+                r += ORTHOGONAL_DR[d];
+                c += ORTHOGONAL_DC[d];
+            }
+            if (found == 0) continue;
+
+            Piece first = board.getPiece(ray[0]);
+            if (isEnemy(first, color, PieceType.CANNON)) {
+                // 将与炮之间的空格一旦有子即成炮架；该炮本身也可能是更远处敌炮的炮架，下面照常检查
+                for (int sq = general + step(d); sq != ray[0]; sq += step(d)) addScreen(sq);
+            }
+            if (found >= 2) {
+                Piece second = board.getPiece(ray[1]);
+                boolean slider = isEnemy(second, color, PieceType.CHARIOT)
+                        || (d < 2 && isEnemy(second, color, PieceType.GENERAL));
+                if (slider) addPinned(ray[0]);
+            }
+            if (found == 3 && isEnemy(board.getPiece(ray[2]), color, PieceType.CANNON)) {
+                addPinned(ray[0]);
+                addPinned(ray[1]);
+            }
+        }
+
+        // 马腿：只有挡住敌马将军的马腿会被牵制
+        Piece.Color enemy = (color == Piece.Color.RED) ? Piece.Color.BLACK : Piece.Color.RED;
+        int knight = PieceType.code(PieceType.KNIGHT, enemy);
+        Piece enemyKnight = Piece.of(knight);
+        int[] from = LeaperTables.sources(knight, general);
+        int[] leg = LeaperTables.sourceBlocks(knight, general);
+        for (int i = 0; i < from.length; i++) {
+            if (board.getPiece(from[i]) == enemyKnight) addPinned(leg[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 在 compute 过的局面中，from -> to（伪合法走法）能否不试走直接判定为合法；
+     * 返回 false 只表示需要试走确认
+     */
+    public boolean isSafe(int from, int to) {
+        if (inCheck || from == general) return false;
+        if (Bitboard.test(pinnedLo, pinnedHi, from)) return false;
+        return !Bitboard.test(screenLo, screenHi, to);
+    }
+
+    public boolean isInCheck() {
+        return inCheck;
+    }
+
+    /**
+     * 单个走法的便捷判断，见 isSafe
+     */
+    public static boolean isSafeMove(Board board, int from, int to) {
+        return new Pins().compute(board).isSafe(from, to);
+    }
+
+    private void addPinned(int sq) {
+        pinnedLo |= Bitboard.bitLo(sq);
+        pinnedHi |= Bitboard.bitHi(sq);
+    }
+
+    private void addScreen(int sq) {
+        screenLo |= Bitboard.bitLo(sq);
+        screenHi |= Bitboard.bitHi(sq);
+    }
+
+    // 方向 d 在 sq 编号上的步长
+    private static int step(int d) {
+        return ORTHOGONAL_DR[d] * Bitboard.COLS + ORTHOGONAL_DC[d];
+    }
+
+    private static boolean isEnemy(Piece p, Piece.Color color, int type) {
+        return p != null && p.getColor() != color && p.getType() == type;
+    }
+}
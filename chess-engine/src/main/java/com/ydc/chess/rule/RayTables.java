@@ -0,0 +1,80 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+
+/*
+  车、炮射线的预计算表：以棋子在行（列）中的位置和该行 9 位（该列 10 位）占用为下标，
+  直接得到车可到达的格子与炮隔子可吃的格子（同样按位表示），占用取自 Board.getRankOccupancy / getFileOccupancy。
+  车的结果包含每个方向遇到的第一个棋子，是否为己方需由调用方判断；
+  炮的不吃子走法即车的结果去掉有子的格子。
+*/
+public final class RayTables {
+    private static final int RANK_BITS = Bitboard.COLS;
+    private static final int FILE_BITS = Bitboard.ROWS;
+
+    // [pos << bits | occ]
+    private static final short[] RANK_SLIDE = new short[RANK_BITS << RANK_BITS];
+    private static final short[] RANK_CANNON = new short[RANK_BITS << RANK_BITS];
+    private static final short[] FILE_SLIDE = new short[FILE_BITS << FILE_BITS];
+    private static final short[] FILE_CANNON = new short[FILE_BITS << FILE_BITS];
+
+    static {
+        build(RANK_BITS, RANK_SLIDE, RANK_CANNON);
+        build(FILE_BITS, FILE_SLIDE, FILE_CANNON);
+    }
+
+    private RayTables() {
+    }
+
+    /**
+     * 车在第 col 列、所在行占用为 rankOcc 时，同一行可到达的列（位掩码）
+     */
+    public static int rankSlide(int col, int rankOcc) {
+        return RANK_SLIDE[col << RANK_BITS | rankOcc];
+    }
+
+    /**
+     * 车在第 row 行、所在列占用为 fileOcc 时，同一列可到达的行（位掩码）
+     */
+    public static int fileSlide(int row, int fileOcc) {
+        return FILE_SLIDE[row << FILE_BITS | fileOcc];
+    }
+
+    /**
+     * 炮在第 col 列时，同一行隔一子可吃的列（位掩码，只含有子的格子）
+     */
+    public static int rankCannon(int col, int rankOcc) {
+        return RANK_CANNON[col << RANK_BITS | rankOcc];
+    }
+
+    /**
+     * 炮在第 row 行时，同一列隔一子可吃的行（位掩码，只含有子的格子）
+     */
+    public static int fileCannon(int row, int fileOcc) {
+        return FILE_CANNON[row << FILE_BITS | fileOcc];
+    }
+
+    // 对长度为 bits 的一条线，枚举每个位置与每种占用，沿两个方向走一遍
+    private static void build(int bits, short[] slide, short[] cannon) {
+        for (int pos = 0; pos < bits; pos++) {
+            for (int occ = 0; occ < (1 << bits); occ++) {
+                int s = 0, k = 0;
+                for (int step = -1; step <= 1; step += 2) {
+                    boolean screened = false;
+                    for (int i = pos + step; i >= 0 && i < bits; i += step) {
+                        boolean occupied = (occ & (1 << i)) != 0;
+                        if (!screened) {
+                            s |= 1 << i;
+                            if (occupied) screened = true;
+                        } else if (occupied) {
+                            k |= 1 << i;
+                            break;
+                        }
+                    }
+                }
+                slide[pos << bits | occ] = (short) s;
+                cannon[pos << bits | occ] = (short) k;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Board;
+import com.ydc.chess.model.Piece;
+
+/*
+  棋子移动规则接口：实现类负责返回从 (fx,fy) 到 (tx,ty) 的合法性。
+*/
+public interface Rule {
+    boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty);
+
+    /*
+      基于 Board 的版本：可以利用棋盘维护的棋子列表等信息加速，默认退回到 grid 版本。
+    */
+    default boolean isValidMove(Board board, int fx, int fy, int tx, int ty) {
+        return isValidMove(board.getGrid(), fx, fy, tx, ty);
+    }
+}//判断非法移动（包括移动后被将军的情况），因此需要后面再进行更改
@@ -0,0 +1,34 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  规则工厂：规则类均无状态，每种棋子只保留一个实例，按 PieceType 类型编码查表返回，
+  热点循环中取规则不再分配对象，也不再逐个 instanceof 判断。
+*/
+public class RuleFactory {
+    private static final Rule[] RULES = new Rule[PieceType.TYPE_COUNT];
+
+    static {
+        RULES[PieceType.GENERAL] = new GeneralRule();
+        RULES[PieceType.GUARD] = new GuardRule();
+        RULES[PieceType.BISHOP] = new BishopRule();
+        RULES[PieceType.KNIGHT] = new KnightRule();
+        RULES[PieceType.CHARIOT] = new ChariotRule();
+        RULES[PieceType.CANNON] = new CannonRule();
+        RULES[PieceType.SOLDIER] = new SoldierRule();
+    }
+
+    public static Rule of(Piece p) {
+        if (p == null) return null;
+        return RULES[p.getType()];
+    }
+
+    /**
+     * 按类型编码（PieceType.GENERAL ~ SOLDIER）取规则
+     */
+    public static Rule of(int type) {
+        return RULES[type];
+    }
+}
@@ -0,0 +1,22 @@
+package com.ydc.chess.rule;
+
+import com.ydc.chess.model.Bitboard;
+import com.ydc.chess.model.Piece;
+import com.ydc.chess.model.PieceType;
+
+/*
+  兵（卒）规则实现
+*/
+public class SoldierRule extends AbstractRule {
+    @Override
+    public boolean isValidMove(Piece[][] board, int fx, int fy, int tx, int ty) {
+        if (!inBounds(fx, fy) || !inBounds(tx, ty)) return false;
+        Piece from = board[fx][fy];
+        if (from == null || from.getType() != PieceType.SOLDIER) return false;
+        Piece to = board[tx][ty];
+        if (to != null && sameColor(from, to)) return false;
+
+        // 未过河只能向前一步，过河后可以向前或左右一步（见 LeaperTables）
+        return leaperStep(board, from.getCode(), Bitboard.square(fx, fy), Bitboard.square(tx, ty));
+    }
+}
@@ -2,13 +2,13 @@ package com.ydc.chess.network;
 
 import com.google.gson.Gson;
 import com.ydc.chess.model.Pos;
-import javafx.application.Platform;
 
 import java.io.*;
 import java.net.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -32,6 +32,8 @@ public class NetworkService {
     private int port = DEFAULT_PORT;
     
     private ExecutorService executorService;
+    // 监听器回调的执行线程：界面端传入 Platform::runLater，无界面时默认在网络线程直接回调
+    private final Executor callbackExecutor;
     private List<NetworkMessageListener> listeners = new ArrayList<>();
     private Gson gson = new Gson();
     
@@ -42,6 +44,11 @@ public class NetworkService {
     }
     
     public NetworkService() {
+        this(Runnable::run);
+    }
+
+    public NetworkService(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
         executorService = Executors.newCachedThreadPool();
     }
     
@@ -70,7 +77,7 @@ public class NetworkService {
                     
                 } catch (IOException e) {
                     System.err.println("接受连接失败: " + e.getMessage());
-                    Platform.runLater(() -> {
+                    callbackExecutor.execute(() -> {
                         for (NetworkMessageListener listener : listeners) {
                             listener.onConnectionLost();
                         }
@@ -93,7 +100,7 @@ public class NetworkService {
             setupStreams();
             isConnected = true;
             
-            Platform.runLater(() -> {
+            callbackExecutor.execute(() -> {
                 for (NetworkMessageListener listener : listeners) {
                     listener.onConnectionEstablished();
                 }
@@ -165,7 +172,7 @@ public class NetworkService {
             setupStreams();
             isConnected = true;
             
-            Platform.runLater(() -> {
+            callbackExecutor.execute(() -> {
                 for (NetworkMessageListener listener : listeners) {
                     listener.onConnectionEstablished();
                 }
@@ -198,7 +205,7 @@ public class NetworkService {
                 while ((inputLine = in.readLine()) != null && isConnected) {
                     NetworkMessage message = gson.fromJson(inputLine, NetworkMessage.class);
                     
-                    Platform.runLater(() -> {
+                    callbackExecutor.execute(() -> {
                         for (NetworkMessageListener listener : listeners) {
                             listener.onMessageReceived(message);
                         }
@@ -207,7 +214,7 @@ public class NetworkService {
             } catch (IOException e) {
                 System.err.println("读取消息失败: " + e.getMessage());
             } finally {
-                Platform.runLater(() -> {
+                callbackExecutor.execute(() -> {
                     for (NetworkMessageListener listener : listeners) {
                         listener.onConnectionLost();
                     }
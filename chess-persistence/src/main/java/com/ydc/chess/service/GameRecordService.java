@@ -5,9 +5,9 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.ydc.chess.model.Board;
 import com.ydc.chess.model.GameRecord;
-import com.ydc.chess.model.Move;
+import com.ydc.chess.model.Moves;
 import com.ydc.chess.model.Piece;
-import com.ydc.chess.model.Pos;
+import com.ydc.chess.model.Square;
 
 import java.io.*;
 import java.lang.reflect.Type;
@@ -98,45 +98,37 @@ public class GameRecordService {
         record.setWinner(winner);
         record.setRedPlayerName(redPlayerName != null ? redPlayerName : "红方");
         record.setBlackPlayerName(blackPlayerName != null ? blackPlayerName : "黑方");
-        record.setTotalMoves(board.getMoveHistory().size());
+        // 转换走棋历史：打包走法里已带走子与被吃棋子，无需在临时棋盘上重放
+        int[] history = board.getHistorySnapshot();
+        record.setTotalMoves(history.length);
         
-        // 转换走棋历史
-        List<GameRecord.MoveRecord> moveRecords = new ArrayList<>();
-        Board tempBoard = new Board();
-        tempBoard.initialize();
-        
-        for (Move move : board.getMoveHistory()) {
-            Pos from = move.getFromPos();
-            Pos to = move.getToPos();
+        List<GameRecord.MoveRecord> moveRecords = new ArrayList<>(history.length);
+        for (int move : history) {
+            int from = Moves.from(move), to = Moves.to(move);
+            Piece piece = Piece.of(Moves.piece(move));
+            int captured = Moves.captured(move);
             
-            // 从临时棋盘获取棋子信息
-            Piece piece = tempBoard.getPiece(from);
-            if (piece != null) {
-                Piece captured = move.getCapturedPiece();
-                
-                GameRecord.MoveRecord moveRecord = new GameRecord.MoveRecord(
-                    from.getY(), from.getX(),  // 行，列
-                    to.getY(), to.getX(),      // 行，列
-                    piece.getName(),
-                    piece.getColor().toString(),
-                    captured != null ? captured.getName() : null
-                );
-                
-                moveRecords.add(moveRecord);
-                
-                // 在临时棋盘上执行移动（用于复盘）
-                // 直接操作棋盘，不进行合法性检查（因为这是从历史记录中恢复的合法移动）
-                Piece[][] grid = tempBoard.getGrid();
-                grid[to.getY()][to.getX()] = piece;
-                grid[from.getY()][from.getX()] = null;
-                piece.setPosition(to);
-            }
+            GameRecord.MoveRecord moveRecord = new GameRecord.MoveRecord(
+                Square.row(from), Square.col(from),  // 行，列
+                Square.row(to), Square.col(to),      // 行，列
+                piece.getName(),
+                piece.getColor().toString(),
+                captured >= 0 ? Piece.of(captured).getName() : null
+            );
+            moveRecords.add(moveRecord);
         }
         
         record.setMoves(moveRecords);
         return record;
     }
     
+    /**
+     * 把对局记录序列化为 JSON 字符串（与保存到文件的格式一致）
+     */
+    public static String toJson(GameRecord record) {
+        return gson.toJson(record);
+    }
+    
     /**
      * 加载所有记录
      */
@@ -1,5 +0,0 @@
-package com.ydc.chess.model;
-
-public class Bishop extends Piece {
-    public Bishop(String name, Color color, Pos pos) {super(name, color, pos);}
-}
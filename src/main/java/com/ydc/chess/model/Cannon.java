@@ -1,10 +0,0 @@
-package com.ydc.chess.model;
-
-/**
- * 炮/砲
- */
-public class Cannon extends Piece {
-    public Cannon(String name, Color color, Pos position) {
-        super(name, color, position);
-    }
-}
\ No newline at end of file
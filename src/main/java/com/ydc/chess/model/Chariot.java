@@ -1,10 +0,0 @@
-package com.ydc.chess.model;
-
-/**
- * 车/俥
- */
-public class Chariot extends Piece {
-    public Chariot(String name, Color color, Pos position) {
-        super(name, color, position);
-    }
-}
\ No newline at end of file
@@ -1,10 +0,0 @@
-package com.ydc.chess.model;
-
-/**
- * 将/帅
- */
-public class General extends Piece {
-    public General(String name, Color color, Pos position) {
-        super(name, color, position);
-    }
-}
\ No newline at end of file
@@ -1,5 +0,0 @@
-package com.ydc.chess.model;
-
-public class Guard extends Piece {
-    public Guard(String name, Color color, Pos pos) {super(name, color, pos);}
-}
@@ -1,5 +0,0 @@
-package com.ydc.chess.model;
-
-public class Knight extends Piece{
-    public Knight(String name, Color color , Pos pos){super(name,color,pos);}
-}
@@ -1,7 +0,0 @@
-package com.ydc.chess.model;
-
-public class Soldier extends Piece {
-    public Soldier(String name, Color color, Pos pos) {
-        super(name, color, pos);
-    }
-}